@@ -0,0 +1,269 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Struct;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An Aho-Corasick automaton that finds every occurrence of many patterns in a text in a single pass,
+ * in {@code O(text + matches)} after an {@code O(total pattern length * alphabet size)} build.
+ *
+ * Patterns are added to a trie with the same alphabets as {@link Trie}, stored in flat arrays like {@link ArrayTrie}.
+ * {@link #build()} then computes failure links, turning missing children into direct transitions, and output links
+ * to the nearest shorter suffix that ends a pattern, so every step of a search is one array lookup.
+ * Characters outside the alphabet can never be part of a match and reset the search.
+ *
+ * Matches are reported through a {@link MatchListener} without allocating. Text can be given all at once with
+ * {@link #search(CharSequence, MatchListener)}, or a character at a time with {@link #feed(char, MatchListener)},
+ * for example token by token as it is read.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+public class AhoCorasick {
+    /**
+     * Receives the matches found by a search.
+     */
+    public interface MatchListener {
+        /**
+         * Called for each occurrence of a pattern.
+         *
+         * @param pattern The index of the pattern, in the order the patterns were added.
+         * @param end The position just past the last character of the occurrence, which starts at {@code end - length(pattern)}.
+         */
+        void match(int pattern, long end);
+    }
+
+    private final Alphabet alphabet;
+    private int[] children;
+    private int nodes;
+    private boolean built;
+
+    // per node: failure link, nearest output node along failure links, first pattern ending here
+    private int[] fail;
+    private int[] output;
+    private int[] first;
+
+    // per pattern: length, next pattern ending at the same node
+    private int[] lengths = new int[16];
+    private int[] same = new int[16];
+    private int patterns;
+
+    private int state;
+    private long position;
+
+    /**
+     * Constructs an empty automaton with default lowercase alphabet settings (a-z).
+     */
+    public AhoCorasick() {
+        this(new Alphabet());
+    }
+
+    /**
+     * Constructs an empty automaton specifying allowed characters.
+     *
+     * @param allowedChars The array of allowed characters in patterns.
+     */
+    public AhoCorasick(char[] allowedChars) {
+        this(new Alphabet(allowedChars));
+    }
+
+    /**
+     * Constructs an empty automaton specifying allowed characters, intended for situations where
+     * allowed characters are contained within a list.
+     *
+     * @param allowedChars The list of allowed characters in patterns.
+     */
+    public AhoCorasick(List<Character> allowedChars) {
+        this(new Alphabet(allowedChars));
+    }
+
+    private AhoCorasick(Alphabet alphabet) {
+        this.alphabet = alphabet;
+        children = new int[16 * alphabet.size];
+        first = new int[16];
+        first[0] = -1;
+        nodes = 1;
+    }
+
+    private int node() {
+        if ((long) (nodes + 1) * alphabet.size > children.length) {
+            children = Arrays.copyOf(children, Math.max(children.length << 1, (nodes + 1) * alphabet.size));
+        }
+        if (nodes == first.length) first = Arrays.copyOf(first, nodes << 1);
+        first[nodes] = -1;
+        return nodes++;
+    }
+
+    /**
+     * Adds a pattern to search for. All patterns must be added before the automaton is built.
+     * Runs in {@code O(m)} where m is the length of the pattern.
+     *
+     * @param pattern The pattern to add.
+     * @return The index of the pattern, as reported to a {@link MatchListener}.
+     * @throws IllegalArgumentException If the pattern is empty or contains an invalid character.
+     * @throws IllegalStateException If the automaton has already been built.
+     */
+    public int add(CharSequence pattern) {
+        if (built) throw new IllegalStateException("Patterns cannot be added after build");
+        int len = pattern.length();
+        if (len == 0) throw new IllegalArgumentException("Inserted empty pattern");
+        for (int i = 0; i < len; i++) {
+            if (alphabet.index(pattern.charAt(i)) < 0) {
+                throw new IllegalArgumentException("Inserted Invalid character: " + pattern.charAt(i));
+            }
+        }
+        int curr = 0, size = alphabet.size;
+        for (int i = 0; i < len; i++) {
+            int slot = curr * size + alphabet.index(pattern.charAt(i));
+            if (children[slot] == 0) {
+                int child = node();
+                children[slot] = child;
+            }
+            curr = children[slot];
+        }
+        if (patterns == lengths.length) {
+            lengths = Arrays.copyOf(lengths, patterns << 1);
+            same = Arrays.copyOf(same, patterns << 1);
+        }
+        lengths[patterns] = len;
+        same[patterns] = first[curr];
+        first[curr] = patterns;
+        return patterns++;
+    }
+
+    /**
+     * Computes the failure and output links. Searching builds the automaton automatically if needed.
+     * Runs in {@code O(total pattern length * alphabet size)}.
+     */
+    public void build() {
+        if (built) return;
+        built = true;
+        int size = alphabet.size;
+        fail = new int[nodes];
+        output = new int[nodes];
+        int[] queue = new int[nodes];
+        int head = 0, tail = 0;
+        for (int c = 0; c < size; c++) {
+            if (children[c] != 0) queue[tail++] = children[c];
+        }
+        // breadth first, so the failure target of every node is finished before the node itself
+        while (head < tail) {
+            int v = queue[head++];
+            int f = fail[v];
+            output[v] = first[f] >= 0 ? f : output[f];
+            for (int c = 0; c < size; c++) {
+                int u = children[v * size + c];
+                if (u != 0) {
+                    fail[u] = children[f * size + c];
+                    queue[tail++] = u;
+                }
+                else {
+                    children[v * size + c] = children[f * size + c];
+                }
+            }
+        }
+        state = 0;
+        position = 0;
+    }
+
+    /**
+     * Finds every occurrence of every pattern in a text, reporting end positions relative to the start of the text.
+     * Does not affect the state of {@link #feed(char, MatchListener)}.
+     * Runs in {@code O(n + matches)} where n is the length of the text.
+     *
+     * @param text The text to search.
+     * @param listener The listener to report matches to, in order of their end position.
+     */
+    public void search(CharSequence text, MatchListener listener) {
+        build();
+        int curr = 0, size = alphabet.size;
+        int len = text.length();
+        for (int i = 0; i < len; i++) {
+            int c = alphabet.index(text.charAt(i));
+            curr = c < 0 ? 0 : children[curr * size + c];
+            report(curr, i + 1, listener);
+        }
+    }
+
+    /**
+     * Counts the occurrences of every pattern in a text.
+     * Runs in {@code O(n + matches)} where n is the length of the text.
+     *
+     * @param text The text to search.
+     * @return The number of occurrences of each pattern, indexed by pattern.
+     */
+    public long[] count(CharSequence text) {
+        long[] counts = new long[patterns];
+        search(text, (pattern, end) -> counts[pattern]++);
+        return counts;
+    }
+
+    /**
+     * Advances a search that continues across calls by one character, so text can be streamed through the automaton.
+     * End positions count every character fed since the automaton was built or last {@link #reset()}.
+     * Runs in {@code O(1 + matches)}.
+     *
+     * @param ch The next character of the text.
+     * @param listener The listener to report the matches ending at this character to.
+     */
+    public void feed(char ch, MatchListener listener) {
+        build();
+        int c = alphabet.index(ch);
+        state = c < 0 ? 0 : children[state * alphabet.size + c];
+        report(state, ++position, listener);
+    }
+
+    /**
+     * Restarts the streamed search of {@link #feed(char, MatchListener)} at position 0.
+     */
+    public void reset() {
+        state = 0;
+        position = 0;
+    }
+
+    private void report(int v, long end, MatchListener listener) {
+        if (first[v] < 0) v = output[v];
+        while (v != 0) {
+            for (int p = first[v]; p >= 0; p = same[p]) {
+                listener.match(p, end);
+            }
+            v = output[v];
+        }
+    }
+
+    /**
+     * Gets the length of a pattern.
+     *
+     * @param pattern The index of the pattern.
+     * @return The number of characters in the pattern.
+     */
+    public int length(int pattern) {
+        return lengths[pattern];
+    }
+
+    /**
+     * Gets the number of patterns added.
+     *
+     * @return The number of patterns.
+     */
+    public int patterns() {
+        return patterns;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Struct;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compresses the characters allowed in a trie to the indexes {@code 0..size-1}, shared by the tries in this package.
+ * Characters are mapped through a table covering the range from the smallest to the largest allowed character.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+class Alphabet {
+    final int[] map;
+    final int offset;
+    final int size;
+
+    /**
+     * The character of each index, the inverse of {@link #map}.
+     */
+    final char[] chars;
+
+    /**
+     * The indexes ordered by their characters, for walking children in lexicographic order.
+     */
+    final int[] sorted;
+
+    /**
+     * Constructs the default lowercase alphabet (a-z).
+     */
+    Alphabet() {
+        map = new int[26];
+        chars = new char[26];
+        size = 26;
+        for (int i = 0; i < map.length; i++) {
+            map[i] = i;
+            chars[i] = (char) ('a' + i);
+        }
+        offset = 'a';
+        sorted = sort(map);
+    }
+
+    /**
+     * Constructs an alphabet of the allowed characters, indexed in the order they are given.
+     *
+     * @param allowedChars The array of allowed characters.
+     */
+    Alphabet(char[] allowedChars) {
+        int min = 65535;
+        int max = 0;
+        chars = allowedChars.clone();
+        size = allowedChars.length;
+        for (int i = 0; i < size; i++) {
+            char c = allowedChars[i];
+            if (c < min) {
+                min = c;
+            }
+            if (c > max) {
+                max = c;
+            }
+        }
+        offset = min;
+        map = new int[Math.max(0, max - offset + 1)];
+        Arrays.fill(map, -1);
+        for (int i = 0; i < size; i++) {
+            map[allowedChars[i] - offset] = i;
+        }
+        sorted = sort(map);
+    }
+
+    /**
+     * Lists the indexes in {@code map} in order, which is the order of their characters.
+     */
+    private static int[] sort(int[] map) {
+        int n = 0;
+        for (int index : map) {
+            if (index >= 0) n++;
+        }
+        int[] sorted = new int[n];
+        n = 0;
+        for (int index : map) {
+            if (index >= 0) sorted[n++] = index;
+        }
+        return sorted;
+    }
+
+    /**
+     * Constructs an alphabet of the allowed characters, indexed in the order they are given.
+     *
+     * @param allowedChars The list of allowed characters.
+     */
+    Alphabet(List<Character> allowedChars) {
+        this(toArray(allowedChars));
+    }
+
+    private static char[] toArray(List<Character> allowedChars) {
+        char[] chars = new char[allowedChars.size()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = allowedChars.get(i);
+        }
+        return chars;
+    }
+
+    /**
+     * Maps a character to its index.
+     *
+     * @param c The character.
+     * @return The index of the character, or -1 if it is not allowed.
+     */
+    int index(char c) {
+        int j = c - offset;
+        return j < 0 || j >= map.length ? -1 : map[j];
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Struct;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A Trie (or Prefix Tree) that stores all of its nodes in flat primitive arrays instead of node objects.
+ * Supports the same insertion and search operations and alphabets as {@link Trie}.
+ *
+ * The child of node {@code v} for character index {@code c} is {@code children[v * size + c]}, with 0 meaning
+ * no child since the root is never a child, and whether a word ends at a node is kept in a bitset.
+ * This avoids an object and a child array per node, and lookups walk a single contiguous array.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+public class ArrayTrie {
+    final Alphabet alphabet;
+    int[] children;
+    long[] terminal;
+    int nodes;
+
+    /**
+     * Constructs an empty Trie with default lowercase alphabet settings (a-z).
+     */
+    public ArrayTrie() {
+        this(new Alphabet());
+    }
+
+    /**
+     * Constructs a Trie specifying allowed characters. It customizes the structure
+     * to optimize for the provided set of characters.
+     *
+     * @param allowedChars The array of allowed characters to include in the Trie.
+     */
+    public ArrayTrie(char[] allowedChars) {
+        this(new Alphabet(allowedChars));
+    }
+
+    /**
+     * Constructs a Trie specifying allowed characters. It customizes the structure
+     * to optimize for the provided set of characters, intended for situations where
+     * allowed characters are contained within a list.
+     *
+     * @param allowedChars The list of allowed characters to include in the Trie.
+     */
+    public ArrayTrie(List<Character> allowedChars) {
+        this(new Alphabet(allowedChars));
+    }
+
+    ArrayTrie(Alphabet alphabet) {
+        this.alphabet = alphabet;
+        children = new int[16 * alphabet.size];
+        terminal = new long[1];
+        nodes = 1;
+    }
+
+    private int node() {
+        if ((long) (nodes + 1) * alphabet.size > children.length) {
+            children = Arrays.copyOf(children, Math.max(children.length << 1, (nodes + 1) * alphabet.size));
+        }
+        if (nodes >> 6 >= terminal.length) terminal = Arrays.copyOf(terminal, terminal.length << 1);
+        return nodes++;
+    }
+
+    /**
+     * Inserts a word into the Trie. If any character in the word is out of the allowed range,
+     * it throws an exception.
+     * Runs in {@code O(m)} where m is the length of the word.
+     *
+     * @param word A sequence of characters representing the word to insert.
+     * @throws IllegalArgumentException If an invalid character is in the input String.
+     */
+    public void insert(CharSequence word) {
+        int len = word.length();
+        for (int i = 0; i < len; i++) {
+            if (alphabet.index(word.charAt(i)) < 0) {
+                throw new IllegalArgumentException("Inserted Invalid character: " + word.charAt(i));
+            }
+        }
+        int curr = 0, size = alphabet.size;
+        for (int i = 0; i < len; i++) {
+            int slot = curr * size + alphabet.index(word.charAt(i));
+            if (children[slot] == 0) {
+                int child = node();
+                children[slot] = child;
+            }
+            curr = children[slot];
+        }
+        terminal[curr >> 6] |= 1L << curr;
+    }
+
+    /**
+     * Checks if a word is in the Trie.
+     * Runs in {@code O(m)} where m is the length of the word.
+     *
+     * @param word The word to check.
+     * @return true if the Trie contains the word, false otherwise.
+     */
+    public boolean contains(CharSequence word) {
+        int curr = 0, size = alphabet.size;
+        int len = word.length();
+        for (int i = 0; i < len; i++) {
+            int c = alphabet.index(word.charAt(i));
+            if (c < 0) {
+                return false;
+            }
+            curr = children[curr * size + c];
+            if (curr == 0) {
+                return false;
+            }
+        }
+        return (terminal[curr >> 6] & 1L << curr) != 0;
+    }
+
+    /**
+     * Gets the number of nodes in the Trie, including the root.
+     *
+     * @return The number of nodes.
+     */
+    public int nodes() {
+        return nodes;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Struct;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A binary trie over the bits of integer keys, from the most significant of a fixed number of bits down,
+ * that answers xor queries against the stored keys in {@code O(bits)}.
+ * Keys are a multiset, so a key inserted twice must be removed twice.
+ *
+ * Nodes are stored in flat primitive arrays: the two children of node {@code v} are {@code children[2v]} and
+ * {@code children[2v + 1]}, with 0 meaning no child, and {@code counts[v]} is the number of keys below {@code v}.
+ * Removing a key only decrements counts, and nodes with a count of 0 are treated as absent and reused on insert.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+public class BitTrie {
+    private final int bits;
+    private int[] children;
+    private int[] counts;
+    private int nodes;
+
+    /**
+     * Constructs an empty trie for keys of the given number of bits, 32 for any int and 64 for any long.
+     * Only the low {@code bits} bits of keys and xor operands are used and they are compared as unsigned numbers,
+     * so negative ints are stored as their 32-bit two's complement patterns. Results are returned the same way,
+     * so with 32 bits {@code (int) maxXor(x)} is the xor as an int.
+     *
+     * @param bits The number of bits of each key, between 1 and 64.
+     * @throws IllegalArgumentException If {@code bits} is out of range.
+     */
+    public BitTrie(int bits) {
+        if (bits < 1 || bits > 64) throw new IllegalArgumentException("Invalid bit count: " + bits);
+        this.bits = bits;
+        children = new int[32];
+        counts = new int[16];
+        nodes = 1;
+    }
+
+    private int node() {
+        if (nodes == counts.length) {
+            counts = Arrays.copyOf(counts, nodes << 1);
+            children = Arrays.copyOf(children, nodes << 2);
+        }
+        return nodes++;
+    }
+
+    /**
+     * Keeps the low {@code bits} bits of a key, dropping the sign extension of negative ints.
+     */
+    private long key(long x) {
+        return bits == 64 ? x : x & (1L << bits) - 1;
+    }
+
+    /**
+     * Inserts a key.
+     * Runs in {@code O(bits)}.
+     *
+     * @param x The key to insert, of which only the low {@code bits} bits are used.
+     */
+    public void insert(long x) {
+        x = key(x);
+        int v = 0;
+        counts[0]++;
+        for (int b = bits - 1; b >= 0; b--) {
+            int slot = v << 1 | (int) (x >>> b & 1);
+            if (children[slot] == 0) {
+                int child = node();
+                children[slot] = child;
+            }
+            v = children[slot];
+            counts[v]++;
+        }
+    }
+
+    /**
+     * Removes one occurrence of a key.
+     * Runs in {@code O(bits)}.
+     *
+     * @param x The key to remove, of which only the low {@code bits} bits are used.
+     * @return true if the key was present, false otherwise.
+     */
+    public boolean remove(long x) {
+        if (count(x) == 0) return false;
+        int v = 0;
+        counts[0]--;
+        for (int b = bits - 1; b >= 0; b--) {
+            v = children[v << 1 | (int) (x >>> b & 1)];
+            counts[v]--;
+        }
+        return true;
+    }
+
+    /**
+     * Counts the occurrences of a key.
+     * Runs in {@code O(bits)}.
+     *
+     * @param x The key to count, of which only the low {@code bits} bits are used.
+     * @return The number of times the key is stored.
+     */
+    public int count(long x) {
+        x = key(x);
+        int v = 0;
+        for (int b = bits - 1; b >= 0; b--) {
+            v = children[v << 1 | (int) (x >>> b & 1)];
+            if (v == 0) return 0;
+        }
+        return counts[v];
+    }
+
+    /**
+     * Gets the number of keys stored, counting repeated keys each time.
+     *
+     * @return The number of keys.
+     */
+    public int size() {
+        return counts[0];
+    }
+
+    /**
+     * Finds the largest value of {@code x ^ y} over the stored keys {@code y}, greedily taking the child with the
+     * opposite bit at every level.
+     * Runs in {@code O(bits)}.
+     *
+     * @param x The value to xor with.
+     * @return The maximum xor, as an unsigned number of {@code bits} bits.
+     * @throws NoSuchElementException If the trie is empty.
+     */
+    public long maxXor(long x) {
+        return extremeXor(x, 1);
+    }
+
+    /**
+     * Finds the smallest value of {@code x ^ y} over the stored keys {@code y}.
+     * Runs in {@code O(bits)}.
+     *
+     * @param x The value to xor with.
+     * @return The minimum xor, as an unsigned number of {@code bits} bits.
+     * @throws NoSuchElementException If the trie is empty.
+     */
+    public long minXor(long x) {
+        return extremeXor(x, 0);
+    }
+
+    private long extremeXor(long x, int prefer) {
+        if (counts[0] == 0) throw new NoSuchElementException("Trie is empty");
+        int v = 0;
+        long result = 0;
+        for (int b = bits - 1; b >= 0; b--) {
+            int want = (int) (x >>> b & 1) ^ prefer;
+            int child = children[v << 1 | want];
+            if (child != 0 && counts[child] > 0) {
+                result |= (long) prefer << b;
+            }
+            else {
+                child = children[v << 1 | want ^ 1];
+                result |= (long) (prefer ^ 1) << b;
+            }
+            v = child;
+        }
+        return result;
+    }
+
+    /**
+     * Counts the stored keys {@code y} with {@code x ^ y < k}, where the xor is an unsigned number of {@code bits} bits.
+     * Runs in {@code O(bits)}.
+     *
+     * @param x The value to xor with.
+     * @param k The exclusive upper bound on the xor, as an unsigned long, so any bound of {@code 2^bits} or more counts every key.
+     * @return The number of keys whose xor with {@code x} is below {@code k}.
+     */
+    public int countXorLess(long x, long k) {
+        if (bits < 64 && k >>> bits != 0) return counts[0];
+        int v = 0, result = 0;
+        for (int b = bits - 1; b >= 0; b--) {
+            int xb = (int) (x >>> b & 1);
+            if ((k >>> b & 1) == 1) {
+                // keys matching x on this bit give a xor bit of 0, below k's 1
+                int same = children[v << 1 | xb];
+                if (same != 0) result += counts[same];
+                v = children[v << 1 | xb ^ 1];
+            }
+            else {
+                v = children[v << 1 | xb];
+            }
+            if (v == 0) break;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Struct;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A thread-safe, lock-free Disjoint Set Union that many threads can {@link #union(int, int)} and
+ * {@link #find(int)} on at once, without wrapping a {@link DSU} in a lock.
+ *
+ * Parents live in an {@link AtomicIntegerArray}. Roots are linked with a single compare-and-set, always
+ * the root of lower priority under the one of higher priority, where priorities are a fixed hash of the index,
+ * which keeps trees shallow in expectation without tracking sizes. Finds compress paths with path splitting,
+ * each step being one compare-and-set that never needs to be retried.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+public class ConcurrentDSU {
+    private final AtomicIntegerArray parents;
+    private final AtomicInteger components;
+
+    /**
+     * Initializes the DSU with n elements, each element is its own set initially.
+     *
+     * Runs in {@code O(n)}.
+     * @param n The total number of elements.
+     */
+    public ConcurrentDSU(int n) {
+        parents = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) {
+            parents.set(i, i);
+        }
+        components = new AtomicInteger(n);
+    }
+
+    private static int priority(int x) {
+        x *= 0x9E3779B9;
+        return x ^ (x >>> 16);
+    }
+
+    private static boolean below(int x, int y) {
+        int px = priority(x), py = priority(y);
+        return px < py || (px == py && x < y);
+    }
+
+    /**
+     * Finds the representative of the set that x is a part of, pointing every visited element at its grandparent.
+     * The result may be stale as soon as it is returned if other threads are uniting sets.
+     *
+     * Runs in {@code O(log(n))} expected.
+     * @param x The element to find.
+     * @return The representative item of the set containing 'x'.
+     */
+    public int find(int x) {
+        while (true) {
+            int p = parents.get(x);
+            if (p == x) return x;
+            int gp = parents.get(p);
+            if (p != gp) parents.compareAndSet(x, p, gp);
+            x = p;
+        }
+    }
+
+    /**
+     * Unites the set that includes 'x' with the set that includes 'y'.
+     * If another thread links one of the roots first, the operation retries from the new roots.
+     *
+     * Runs in {@code O(log(n))} expected.
+     * @param x First element.
+     * @param y Second element.
+     * @return true if this call united two different sets, false if they were already the same set.
+     */
+    public boolean union(int x, int y) {
+        while (true) {
+            x = find(x);
+            y = find(y);
+            if (x == y) return false;
+            if (below(y, x)) {
+                int tmp = x;
+                x = y;
+                y = tmp;
+            }
+            if (parents.compareAndSet(x, x, y)) {
+                components.decrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Checks if the elements 'x' and 'y' are in the same set.
+     * The answer is exact at some moment during the call.
+     *
+     * Runs in {@code O(log(n))} expected.
+     * @param x First element.
+     * @param y Second element.
+     * @return true if 'x' and 'y' are in the same set, false otherwise.
+     */
+    public boolean connected(int x, int y) {
+        while (true) {
+            x = find(x);
+            y = find(y);
+            if (x == y) return true;
+            // x was still a root after y's root was found, so they were apart at that moment
+            if (parents.get(x) == x) return false;
+        }
+    }
+
+    /**
+     * Checks if all elements are part of a single set.
+     *
+     * Runs in {@code O(1)}.
+     * @return true if all elements are in one set, false otherwise.
+     */
+    public boolean fullyConnected() {
+        return components.get() == 1;
+    }
+
+    /**
+     * Gets the number of disjoint sets.
+     *
+     * Runs in {@code O(1)}.
+     * @return The number of sets.
+     */
+    public int components() {
+        return components.get();
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Struct;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A minimal directed acyclic word graph (DAWG), a Trie in which every set of equivalent subtrees is stored once,
+ * so common suffixes are shared as well as common prefixes. Large dictionaries usually take far fewer nodes than in
+ * a {@link Trie} or {@link RadixTrie}.
+ *
+ * Words must be inserted in increasing lexicographic order (by {@code char} value). Each insertion minimizes the part
+ * of the previous word that no later word can share, registering each of its nodes or replacing it by an equivalent
+ * registered node, so the graph is minimal without ever being built in full.
+ * The first query freezes the graph into flat arrays, with the edges of each node contiguous and sorted,
+ * after which no more words can be added.
+ *
+ * Supports the same search operations as {@link Trie}, plus counting and listing the words with a given prefix.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+public class DAWG {
+    // edges while building, as linked lists per node in insertion (and so sorted) order
+    private char[] edgeChar = new char[16];
+    private int[] edgeTarget = new int[16];
+    private int[] edgeNext = new int[16];
+    private int edges;
+    private int[] firstEdge = new int[16];
+    private int[] lastEdge = new int[16];
+    private boolean[] terminal = new boolean[16];
+    private int nodes;
+
+    private Map<String, Integer> register = new HashMap<>();
+    private int[] path = new int[16];
+    private int depth;
+    private String previous;
+    private boolean frozen;
+
+    // after freezing: the edges of node v are [offsets[v], offsets[v + 1])
+    private int[] offsets;
+    private char[] labels;
+    private int[] targets;
+    private int[] counts;
+    private long[] ends;
+
+    /**
+     * Constructs an empty DAWG.
+     */
+    public DAWG() {
+        newNode();
+    }
+
+    private int newNode() {
+        if (nodes == firstEdge.length) {
+            int capacity = nodes << 1;
+            firstEdge = Arrays.copyOf(firstEdge, capacity);
+            lastEdge = Arrays.copyOf(lastEdge, capacity);
+            terminal = Arrays.copyOf(terminal, capacity);
+        }
+        firstEdge[nodes] = -1;
+        lastEdge[nodes] = -1;
+        return nodes++;
+    }
+
+    private void addEdge(int v, char c, int target) {
+        if (edges == edgeChar.length) {
+            int capacity = edges << 1;
+            edgeChar = Arrays.copyOf(edgeChar, capacity);
+            edgeTarget = Arrays.copyOf(edgeTarget, capacity);
+            edgeNext = Arrays.copyOf(edgeNext, capacity);
+        }
+        edgeChar[edges] = c;
+        edgeTarget[edges] = target;
+        edgeNext[edges] = -1;
+        if (lastEdge[v] < 0) firstEdge[v] = edges;
+        else edgeNext[lastEdge[v]] = edges;
+        lastEdge[v] = edges++;
+    }
+
+    /**
+     * Inserts a word, which must not be smaller than any word inserted before it.
+     * Runs in {@code O(m)} expected, where m is the length of the word.
+     *
+     * @param word A sequence of characters representing the word to insert.
+     * @throws IllegalArgumentException If the word is smaller than the previously inserted word.
+     * @throws IllegalStateException If the DAWG has already been queried.
+     */
+    public void insert(CharSequence word) {
+        if (frozen) throw new IllegalStateException("Words cannot be added after the DAWG has been queried");
+        String w = word.toString();
+        int common = 0;
+        if (previous != null) {
+            int c = w.compareTo(previous);
+            if (c < 0) throw new IllegalArgumentException("Words must be inserted in sorted order: " + w + " after " + previous);
+            if (c == 0) return;
+            int max = Math.min(w.length(), previous.length());
+            while (common < max && w.charAt(common) == previous.charAt(common)) common++;
+        }
+        minimize(common);
+        if (w.length() + 1 > path.length) path = Arrays.copyOf(path, Math.max(path.length << 1, w.length() + 1));
+        int v = path[common];
+        for (int i = common; i < w.length(); i++) {
+            int u = newNode();
+            addEdge(v, w.charAt(i), u);
+            path[++depth] = u;
+            v = u;
+        }
+        terminal[v] = true;
+        previous = w;
+    }
+
+    /**
+     * Replaces every node on the previous word's path below {@code downTo} by an equivalent registered node,
+     * or registers it if it is the first of its kind. Children are handled before parents, so equivalence
+     * only has to compare the edges' targets, not whole subtrees.
+     */
+    private void minimize(int downTo) {
+        for (; depth > downTo; depth--) {
+            int parent = path[depth - 1], v = path[depth];
+            StringBuilder key = new StringBuilder();
+            key.append(terminal[v] ? '1' : '0');
+            for (int e = firstEdge[v]; e >= 0; e = edgeNext[e]) {
+                key.append(edgeChar[e]).append((char) (edgeTarget[e] >>> 16)).append((char) edgeTarget[e]);
+            }
+            Integer existing = register.putIfAbsent(key.toString(), v);
+            if (existing != null) edgeTarget[lastEdge[parent]] = existing;
+        }
+    }
+
+    /**
+     * Minimizes the last word and copies the reachable nodes into the flat query arrays.
+     */
+    private void freeze() {
+        if (frozen) return;
+        frozen = true;
+        minimize(0);
+        // renumber the reachable nodes in depth first order, dropping the ones replaced while minimizing
+        int[] id = new int[nodes];
+        Arrays.fill(id, -1);
+        int[] order = new int[nodes];
+        int[] stack = new int[nodes];
+        int reachable = 0, sp = 0;
+        stack[sp++] = 0;
+        id[0] = reachable;
+        order[reachable++] = 0;
+        while (sp > 0) {
+            int v = stack[--sp];
+            for (int e = firstEdge[v]; e >= 0; e = edgeNext[e]) {
+                int u = edgeTarget[e];
+                if (id[u] < 0) {
+                    id[u] = reachable;
+                    order[reachable++] = u;
+                    stack[sp++] = u;
+                }
+            }
+        }
+        offsets = new int[reachable + 1];
+        for (int k = 0; k < reachable; k++) {
+            int degree = 0;
+            for (int e = firstEdge[order[k]]; e >= 0; e = edgeNext[e]) degree++;
+            offsets[k + 1] = offsets[k] + degree;
+        }
+        labels = new char[offsets[reachable]];
+        targets = new int[offsets[reachable]];
+        ends = new long[(reachable + 63) >> 6];
+        for (int k = 0; k < reachable; k++) {
+            int v = order[k], j = offsets[k];
+            if (terminal[v]) ends[k >> 6] |= 1L << k;
+            for (int e = firstEdge[v]; e >= 0; e = edgeNext[e], j++) {
+                labels[j] = edgeChar[e];
+                targets[j] = id[edgeTarget[e]];
+            }
+        }
+        counts = new int[reachable];
+        Arrays.fill(counts, -1);
+        count(0);
+        edgeChar = null;
+        edgeTarget = null;
+        edgeNext = null;
+        firstEdge = null;
+        lastEdge = null;
+        terminal = null;
+        register = null;
+        path = null;
+    }
+
+    /**
+     * Counts the words reachable from v, memoized since nodes are shared.
+     */
+    private int count(int v) {
+        if (counts[v] >= 0) return counts[v];
+        int total = (ends[v >> 6] & 1L << v) != 0 ? 1 : 0;
+        for (int j = offsets[v]; j < offsets[v + 1]; j++) {
+            total += count(targets[j]);
+        }
+        return counts[v] = total;
+    }
+
+    /**
+     * Follows the edge of v labelled c.
+     * @return The target, or -1 if there is no such edge.
+     */
+    private int next(int v, char c) {
+        int lo = offsets[v], hi = offsets[v + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (labels[mid] < c) lo = mid + 1;
+            else if (labels[mid] > c) hi = mid - 1;
+            else return targets[mid];
+        }
+        return -1;
+    }
+
+    private int walk(CharSequence s) {
+        freeze();
+        int v = 0, n = s.length();
+        for (int i = 0; i < n && v >= 0; i++) {
+            v = next(v, s.charAt(i));
+        }
+        return v;
+    }
+
+    /**
+     * Checks if a word is in the DAWG.
+     * Runs in {@code O(m log(d))} where m is the length of the word and d is the largest number of edges of a node.
+     *
+     * @param word The word to check.
+     * @return true if the DAWG contains the word, false otherwise.
+     */
+    public boolean contains(CharSequence word) {
+        int v = walk(word);
+        return v >= 0 && (ends[v >> 6] & 1L << v) != 0;
+    }
+
+    /**
+     * Counts the words in the DAWG that start with a prefix.
+     * Runs in {@code O(m log(d))} where m is the length of the prefix and d is the largest number of edges of a node.
+     *
+     * @param prefix The prefix to count.
+     * @return The number of words starting with the prefix.
+     */
+    public int countPrefix(CharSequence prefix) {
+        int v = walk(prefix);
+        return v < 0 ? 0 : counts[v];
+    }
+
+    /**
+     * Lists the words in the DAWG that start with a prefix, in lexicographic order.
+     * Runs in {@code O(m log(d) + output)}.
+     *
+     * @param prefix The prefix to search for.
+     * @return The words starting with the prefix.
+     */
+    public List<String> withPrefix(CharSequence prefix) {
+        List<String> result = new ArrayList<>();
+        int v = walk(prefix);
+        if (v >= 0) collect(v, new StringBuilder(prefix), result);
+        return result;
+    }
+
+    private void collect(int v, StringBuilder sb, List<String> result) {
+        if ((ends[v >> 6] & 1L << v) != 0) result.add(sb.toString());
+        for (int j = offsets[v]; j < offsets[v + 1]; j++) {
+            sb.append(labels[j]);
+            collect(targets[j], sb, result);
+            sb.setLength(sb.length() - 1);
+        }
+    }
+
+    /**
+     * Gets the number of words in the DAWG.
+     *
+     * @return The number of words.
+     */
+    public int size() {
+        freeze();
+        return counts[0];
+    }
+
+    /**
+     * Gets the number of nodes in the minimized DAWG, including the root.
+     *
+     * @return The number of nodes.
+     */
+    public int nodes() {
+        freeze();
+        return counts.length;
+    }
+}
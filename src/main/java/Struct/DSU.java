@@ -16,18 +16,23 @@
 
 package Struct;
 
+import java.util.Arrays;
+
 /**
  * Represents a Disjoint Set Union (DSU) also known as Union-Find data structure.
  * It supports union and find operations, to determine which set a particular element
  * is in, and to unite two sets if they are disjoint.
+ * Parents and set sizes share a single array, with each representative storing the negated size of its set.
  *
  * @author Sahasrad Chippa
  * @version 1.0
  * @since 1.0
  */
 public class DSU {
+    /**
+     * The parent of each element, or the negated size of its set if the element is a representative.
+     */
     int[] parents;
-    int[] sizes;
     int components;
 
     /**
@@ -38,25 +43,28 @@ public class DSU {
      */
     public DSU(int n) {
         parents = new int[n];
-        sizes = new int[n];
-        for (int i = 0; i < n; i++) {
-            parents[i] = i;
-            sizes[i] = 1;
-        }
+        Arrays.fill(parents, -1);
         components = n;
     }
 
     /**
      * Finds the representative of the set that x is a part of.
-     * Uses path compression to flatten the structure of the tree whenever it is used,
-     * leading to very efficient queries.
+     * Uses path halving to flatten the structure of the tree whenever it is used,
+     * leading to very efficient queries. The walk is iterative, so long chains cannot overflow the stack.
      *
      * Runs in {@code O(α(n))}, where α is the inverse Ackermann function.
      * @param x The element to find.
      * @return The representative item of the set containing 'x'.
      */
     public int find(int x) {
-        return parents[x] == x ? x : (parents[x] = find(parents[x]));
+        while (parents[x] >= 0) {
+            int p = parents[x];
+            if (parents[p] >= 0) {
+                parents[x] = parents[p];
+            }
+            x = parents[x];
+        }
+        return x;
     }
 
     /**
@@ -72,9 +80,13 @@ public class DSU {
         int xRoot = find(x);
         int yRoot = find(y);
         if (xRoot == yRoot) return false;
-        if (sizes[xRoot] < sizes[yRoot]) { return union(yRoot, xRoot); }
+        if (parents[xRoot] > parents[yRoot]) {
+            int tmp = xRoot;
+            xRoot = yRoot;
+            yRoot = tmp;
+        }
+        parents[xRoot] += parents[yRoot];
         parents[yRoot] = xRoot;
-        sizes[xRoot] += sizes[yRoot];
         components--;
         return true;
     }
@@ -91,6 +103,17 @@ public class DSU {
         return find(x) == find(y);
     }
 
+    /**
+     * Gets the number of elements in the set that x is a part of.
+     *
+     * Runs in {@code O(α(n))}, where α is the inverse Ackermann function.
+     * @param x The element.
+     * @return The size of the set containing 'x'.
+     */
+    public int size(int x) {
+        return -parents[find(x)];
+    }
+
     /**
      * Checks if all elements are part of a single set.
      *
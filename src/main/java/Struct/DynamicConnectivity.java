@@ -0,0 +1,193 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Struct;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Answers connectivity queries over a graph whose edges are both added and removed, offline.
+ *
+ * Operations are recorded in order with {@link #addEdge(int, int)}, {@link #removeEdge(int, int)} and
+ * {@link #query(int, int)}, then {@link #solve()} answers every query at once. Each edge is alive for an interval
+ * of queries; the intervals are split over a segment tree on the query timeline, and a depth-first walk of that tree
+ * unites the edges of each node on a {@link RollbackDSU} and rolls them back on the way out.
+ * This runs in {@code O((m log(q) + q) log(n))} for {@code m} edge additions and {@code q} queries.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+public class DynamicConnectivity {
+    private final int n;
+    private final Map<Long, ArrayDeque<Integer>> open = new HashMap<>();
+
+    // edges with their lifetime [from, to) in query indexes
+    private int[] us = new int[16];
+    private int[] vs = new int[16];
+    private int[] from = new int[16];
+    private int[] to = new int[16];
+    private int edges;
+
+    private int[] qu = new int[16];
+    private int[] qv = new int[16];
+    private int queries;
+
+    // edges stored per node of the timeline segment tree as linked lists in flat arrays, only during solve()
+    private int[] head;
+    private int[] next;
+    private int[] item;
+    private int size;
+
+    /**
+     * Creates an empty graph on n vertices.
+     *
+     * @param n The number of vertices.
+     */
+    public DynamicConnectivity(int n) {
+        this.n = n;
+    }
+
+    private static long key(int u, int v) {
+        return u < v ? (long) u << 32 | v : (long) v << 32 | u;
+    }
+
+    private void checkVertex(int u) {
+        if (u < 0 || u >= n) throw new IllegalArgumentException("Invalid Vertex: " + u + " for size " + n);
+    }
+
+    /**
+     * Adds an undirected edge, which is alive for every later query until it is removed.
+     * Parallel edges are allowed and are removed one at a time.
+     *
+     * @param u First endpoint.
+     * @param v Second endpoint.
+     */
+    public void addEdge(int u, int v) {
+        checkVertex(u);
+        checkVertex(v);
+        if (edges == us.length) {
+            int capacity = edges << 1;
+            us = Arrays.copyOf(us, capacity);
+            vs = Arrays.copyOf(vs, capacity);
+            from = Arrays.copyOf(from, capacity);
+            to = Arrays.copyOf(to, capacity);
+        }
+        us[edges] = u;
+        vs[edges] = v;
+        from[edges] = queries;
+        to[edges] = -1;
+        open.computeIfAbsent(key(u, v), k -> new ArrayDeque<>()).push(edges++);
+    }
+
+    /**
+     * Removes an undirected edge that was added earlier.
+     *
+     * @param u First endpoint.
+     * @param v Second endpoint.
+     * @throws IllegalArgumentException If there is no such edge in the graph.
+     */
+    public void removeEdge(int u, int v) {
+        ArrayDeque<Integer> stack = open.get(key(u, v));
+        if (stack == null || stack.isEmpty()) throw new IllegalArgumentException("No such edge: " + u + ", " + v);
+        to[stack.pop()] = queries;
+    }
+
+    /**
+     * Records a query asking whether u and v are connected at this point.
+     *
+     * @param u First vertex.
+     * @param v Second vertex.
+     * @return The index of the query in the array returned by {@link #solve()}.
+     */
+    public int query(int u, int v) {
+        checkVertex(u);
+        checkVertex(v);
+        if (queries == qu.length) {
+            qu = Arrays.copyOf(qu, queries << 1);
+            qv = Arrays.copyOf(qv, queries << 1);
+        }
+        qu[queries] = u;
+        qv[queries] = v;
+        return queries++;
+    }
+
+    /**
+     * Answers every recorded query.
+     *
+     * Runs in {@code O((m log(q) + q) log(n))}.
+     * @return For each query in order, whether its vertices were connected at that point.
+     */
+    public boolean[] solve() {
+        boolean[] answers = new boolean[queries];
+        if (queries == 0) return answers;
+        head = new int[queries << 2];
+        Arrays.fill(head, -1);
+        next = new int[16];
+        item = new int[16];
+        size = 0;
+        for (int e = 0; e < edges; e++) {
+            int r = to[e] < 0 ? queries - 1 : to[e] - 1;
+            if (from[e] <= r) insert(0, 0, queries - 1, from[e], r, e);
+        }
+        solve(new RollbackDSU(n), 0, 0, queries - 1, answers);
+        head = next = item = null;
+        return answers;
+    }
+
+    private void insert(int i, int cl, int cr, int l, int r, int e) {
+        if (l == cl && r == cr) {
+            if (size == next.length) {
+                next = Arrays.copyOf(next, size << 1);
+                item = Arrays.copyOf(item, size << 1);
+            }
+            item[size] = e;
+            next[size] = head[i];
+            head[i] = size++;
+            return;
+        }
+        int m = (cl + cr) / 2;
+        if (m >= r) {
+            insert(i * 2 + 1, cl, m, l, r, e);
+        }
+        else if (m < l) {
+            insert(i * 2 + 2, m + 1, cr, l, r, e);
+        }
+        else {
+            insert(i * 2 + 1, cl, m, l, m, e);
+            insert(i * 2 + 2, m + 1, cr, m + 1, r, e);
+        }
+    }
+
+    private void solve(RollbackDSU dsu, int i, int l, int r, boolean[] answers) {
+        int snapshot = dsu.snapshot();
+        for (int j = head[i]; j >= 0; j = next[j]) {
+            dsu.union(us[item[j]], vs[item[j]]);
+        }
+        if (l == r) {
+            answers[l] = dsu.connected(qu[l], qv[l]);
+        }
+        else {
+            int m = (l + r) / 2;
+            solve(dsu, i * 2 + 1, l, m, answers);
+            solve(dsu, i * 2 + 2, m + 1, r, answers);
+        }
+        dsu.rollback(snapshot);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Struct;
+
+import java.util.Arrays;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * A sparse segment tree over a huge range of long coordinates, for example {@code [0, 10^18]}, that only allocates
+ * the nodes on the paths to points that have been set. Every untouched position holds the identity value.
+ *
+ * Nodes are created on first touch from a growable pool of primitive arrays, so memory is {@code O(log(range))}
+ * per updated point rather than proportional to the range. Node 0 stands for any untouched subtree.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+public class DynamicSegTree {
+    private final LongBinaryOperator accumulator;
+    private final long identity;
+    private final long lo;
+    private final long hi;
+    private int[] left;
+    private int[] right;
+    private long[] values;
+    private int nodes;
+
+    /**
+     * Constructs an empty segment tree over the coordinates {@code [lo, hi]}.
+     *
+     * Runs in {@code O(1)}.
+     * @param lo The smallest coordinate.
+     * @param hi The largest coordinate.
+     * @param identity The value of untouched positions, which must be an identity of the accumulator (0 for sums).
+     * @param accumulator A function to accumulate two segments, which must be associative.
+     * @throws IllegalArgumentException If {@code lo > hi}.
+     */
+    public DynamicSegTree(long lo, long hi, long identity, LongBinaryOperator accumulator) {
+        if (lo > hi) throw new IllegalArgumentException("Invalid Range: " + lo + ", " + hi);
+        this.lo = lo;
+        this.hi = hi;
+        this.identity = identity;
+        this.accumulator = accumulator;
+        int capacity = 16;
+        left = new int[capacity];
+        right = new int[capacity];
+        values = new long[capacity];
+        values[0] = identity;
+        values[1] = identity;
+        nodes = 2;
+    }
+
+    private int node() {
+        if (nodes == values.length) {
+            int capacity = nodes << 1;
+            left = Arrays.copyOf(left, capacity);
+            right = Arrays.copyOf(right, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        values[nodes] = identity;
+        return nodes++;
+    }
+
+    /**
+     * Floor of the average without overflow, even for a range spanning all longs.
+     */
+    private static long mid(long l, long r) {
+        return (l & r) + ((l ^ r) >> 1);
+    }
+
+    /**
+     * Queries the aggregate value over a range [l, r].
+     * Runs in {@code O(log(hi - lo))}.
+     *
+     * @param l The left coordinate of the range.
+     * @param r The right coordinate of the range.
+     * @return The aggregated result over the range, the identity if nothing in it has been set.
+     * @throws IllegalArgumentException If {@code l} and {@code r} are not a valid range (where {@code lo <= l <= r <= hi}).
+     */
+    public long query(long l, long r) {
+        if (l > r || l < lo || r > hi) throw new IllegalArgumentException("Invalid Range: " + l + ", " + r + " for [" + lo + ", " + hi + "]");
+        return query(1, lo, hi, l, r);
+    }
+
+    private long query(int i, long cl, long cr, long l, long r) {
+        if (i == 0) return identity;
+        if (l == cl && r == cr) return values[i];
+        long m = mid(cl, cr);
+        if (m >= r) {
+            return query(left[i], cl, m, l, r);
+        }
+        else if (m < l) {
+            return query(right[i], m + 1, cr, l, r);
+        }
+        else {
+            return accumulator.applyAsLong(query(left[i], cl, m, l, m), query(right[i], m + 1, cr, m + 1, r));
+        }
+    }
+
+    /**
+     * Updates the value at a specific coordinate, allocating the nodes on its path if needed.
+     * Runs in {@code O(log(hi - lo))}.
+     *
+     * @param index The coordinate to update.
+     * @param val The new value.
+     * @throws IllegalArgumentException If {@code index} is outside {@code [lo, hi]}.
+     */
+    public void set(long index, long val) {
+        if (index < lo || index > hi) throw new IllegalArgumentException("Invalid Index: " + index + " for [" + lo + ", " + hi + "]");
+        update(1, lo, hi, index, val);
+    }
+
+    private void update(int i, long l, long r, long index, long val) {
+        if (l == r) {
+            values[i] = val;
+            return;
+        }
+        long m = mid(l, r);
+        // allocate before assigning, node() may replace the arrays
+        if (index <= m) {
+            if (left[i] == 0) {
+                int child = node();
+                left[i] = child;
+            }
+            update(left[i], l, m, index, val);
+        }
+        else {
+            if (right[i] == 0) {
+                int child = node();
+                right[i] = child;
+            }
+            update(right[i], m + 1, r, index, val);
+        }
+        values[i] = accumulator.applyAsLong(values[left[i]], values[right[i]]);
+    }
+
+    /**
+     * Gets the number of nodes allocated so far.
+     * @return The number of nodes.
+     */
+    public int size() {
+        return nodes;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Struct;
+
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+
+/**
+ * A segment tree over an int array that provides efficient range query and point update operations
+ * without boxing. Nodes are stored in a flat {@code int[]} and combined with a primitive {@link IntBinaryOperator},
+ * so no objects are allocated per node, value or partial result.
+ *
+ * Behaves like {@link SegTree} with an identity mapper, for example a sum, min, max, gcd or xor tree.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+public class IntSegTree {
+    private final IntBinaryOperator accumulator;
+    private final int n;
+    private final int[] tree;
+
+    /**
+     * Constructs a segment tree from an array.
+     *
+     * Runs in {@code O(n)}.
+     * @param arr An array of values from which the segment tree will be built.
+     * @param accumulator A function to accumulate two segments, which must be associative.
+     */
+    public IntSegTree(int[] arr, IntBinaryOperator accumulator) {
+        tree = new int[arr.length << 2];
+        this.n = arr.length;
+        this.accumulator = accumulator;
+        if (n > 0) build(arr, 0, 0, n - 1);
+    }
+
+    private void build(int[] arr, int i, int l, int r) {
+        if (l == r) {
+            tree[i] = arr[l];
+            return;
+        }
+        int m = (l + r) / 2;
+        int i1 = i * 2 + 1, i2 = i1 + 1;
+        build(arr, i1, l, m);
+        build(arr, i2, m + 1, r);
+        tree[i] = accumulator.applyAsInt(tree[i1], tree[i2]);
+    }
+
+    /**
+     * Queries the aggregate value over a range [l, r].
+     * Runs in {@code O(log(n))}.
+     *
+     * @param l The left index of the range.
+     * @param r The right index of the range.
+     * @return The aggregated result over the range.
+     * @throws IllegalArgumentException If indexes {@code l} and {@code r} are not a valid range (where {@code 0 <= l <= r < n}).
+     */
+    public int query(int l, int r) {
+        if (l > r || l < 0 || r >= n) throw new IllegalArgumentException("Invalid Range: " + l + ", " + r + " for size " + n);
+        return query(0, 0, n - 1, l, r);
+    }
+
+    private int query(int i, int cl, int cr, int l, int r) {
+        if (l == cl && r == cr) return tree[i];
+        int m = (cl + cr) / 2;
+        int i1 = i * 2 + 1, i2 = i1 + 1;
+        if (m >= r) {
+            return query(i1, cl, m, l, r);
+        }
+        else if (m < l) {
+            return query(i2, m + 1, cr, l, r);
+        }
+        else {
+            return accumulator.applyAsInt(query(i1, cl, m, l, m), query(i2, m + 1, cr, m + 1, r));
+        }
+    }
+
+    /**
+     * Updates the value at a specific index.
+     * Runs in {@code O(log(n))}.
+     *
+     * @param index The index to update.
+     * @param val The new value.
+     */
+    public void set(int index, int val) {
+        update(0, 0, n - 1, index, val);
+    }
+
+    private void update(int i, int l, int r, int index, int val) {
+        if (l == r) {
+            tree[i] = val;
+            return;
+        }
+        int m = (l + r) / 2;
+        int i1 = i * 2 + 1, i2 = i1 + 1;
+        if (index <= m) update(i1, l, m, index, val);
+        else update(i2, m + 1, r, index, val);
+        tree[i] = accumulator.applyAsInt(tree[i1], tree[i2]);
+    }
+
+    /**
+     * Finds how far a range starting at {@code l} can extend to the right while its aggregate satisfies a predicate,
+     * in a single walk down the tree.
+     * The predicate must be monotone: once it fails for [l, r] it must fail for every larger r.
+     * Runs in {@code O(log(n))}.
+     *
+     * @param l The left index of the range.
+     * @param predicate The condition tested against {@code query(l, r)}.
+     * @return The largest {@code r} such that {@code predicate} holds for {@code query(l, r)}, or {@code l - 1} if it fails for [l, l].
+     * @throws IllegalArgumentException If {@code l} is not a valid index (where {@code 0 <= l < n}).
+     */
+    public int maxRight(int l, IntPredicate predicate) {
+        if (l < 0 || l >= n) throw new IllegalArgumentException("Invalid Index: " + l + " for size " + n);
+        int bad = maxRight(0, 0, n - 1, l, predicate, new int[1]);
+        return bad < 0 ? n - 1 : bad - 1;
+    }
+
+    /**
+     * Returns the first index in [max(l, cl), cr] where the predicate fails, or -1 if it holds through {@code cr}.
+     * The leftmost covered node starts exactly at {@code l}, so it begins the aggregate.
+     */
+    private int maxRight(int i, int cl, int cr, int l, IntPredicate predicate, int[] acc) {
+        if (cr < l) return -1;
+        if (l <= cl) {
+            int combined = cl == l ? tree[i] : accumulator.applyAsInt(acc[0], tree[i]);
+            if (predicate.test(combined)) {
+                acc[0] = combined;
+                return -1;
+            }
+            if (cl == cr) return cl;
+        }
+        int m = (cl + cr) / 2;
+        int bad = maxRight(i * 2 + 1, cl, m, l, predicate, acc);
+        return bad >= 0 ? bad : maxRight(i * 2 + 2, m + 1, cr, l, predicate, acc);
+    }
+
+    /**
+     * Finds how far a range ending at {@code r} can extend to the left while its aggregate satisfies a predicate,
+     * in a single walk down the tree.
+     * The predicate must be monotone: once it fails for [l, r] it must fail for every smaller l.
+     * Runs in {@code O(log(n))}.
+     *
+     * @param r The right index of the range.
+     * @param predicate The condition tested against {@code query(l, r)}.
+     * @return The smallest {@code l} such that {@code predicate} holds for {@code query(l, r)}, or {@code r + 1} if it fails for [r, r].
+     * @throws IllegalArgumentException If {@code r} is not a valid index (where {@code 0 <= r < n}).
+     */
+    public int minLeft(int r, IntPredicate predicate) {
+        if (r < 0 || r >= n) throw new IllegalArgumentException("Invalid Index: " + r + " for size " + n);
+        int bad = minLeft(0, 0, n - 1, r, predicate, new int[1]);
+        return bad < 0 ? 0 : bad + 1;
+    }
+
+    /**
+     * Returns the last index in [cl, min(r, cr)] where the predicate fails, or -1 if it holds down to {@code cl}.
+     * The rightmost covered node ends exactly at {@code r}, so it begins the aggregate.
+     */
+    private int minLeft(int i, int cl, int cr, int r, IntPredicate predicate, int[] acc) {
+        if (cl > r) return -1;
+        if (cr <= r) {
+            int combined = cr == r ? tree[i] : accumulator.applyAsInt(tree[i], acc[0]);
+            if (predicate.test(combined)) {
+                acc[0] = combined;
+                return -1;
+            }
+            if (cl == cr) return cl;
+        }
+        int m = (cl + cr) / 2;
+        int bad = minLeft(i * 2 + 2, m + 1, cr, r, predicate, acc);
+        return bad >= 0 ? bad : minLeft(i * 2 + 1, cl, m, r, predicate, acc);
+    }
+
+    /**
+     * Finds the k-th counted element when this is a sum tree over non-negative counts,
+     * for example how many times each value occurs, in a single walk down the tree.
+     * Runs in {@code O(log(n))}.
+     *
+     * @param k The zero-based rank of the element to find.
+     * @return The smallest index {@code i} such that {@code query(0, i) > k}, or -1 if {@code k} is negative or not less than the total count.
+     */
+    public int kth(int k) {
+        if (n == 0 || k < 0 || k >= tree[0]) return -1;
+        int i = 0, l = 0, r = n - 1;
+        while (l < r) {
+            int m = (l + r) / 2;
+            int i1 = i * 2 + 1;
+            if (k < tree[i1]) {
+                i = i1;
+                r = m;
+            }
+            else {
+                k -= tree[i1];
+                i = i1 + 1;
+                l = m + 1;
+            }
+        }
+        return l;
+    }
+}
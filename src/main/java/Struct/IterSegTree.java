@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Struct;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A non-recursive segment tree that provides efficient range query and point update operations
+ * with the same mapping and accumulation model as {@link SegTree}.
+ *
+ * The tree is stored in an array of size {@code 2n} with the leaves at indexes {@code n..2n-1}, and
+ * queries and updates walk bottom-up, so there is no recursion, no stack depth concern, and no wasted slots.
+ * The accumulator does not need to be commutative.
+ *
+ * @param <T> The type of the input elements stored in the initial array.
+ * @param <R> The result or operation type after applying the map and accumulation functions.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+public class IterSegTree<T, R> {
+    private final BiFunction<R, R, R> accumulator;
+    private final Function<T, R> mapper;
+    private final int n;
+    private final R[] tree;
+
+    /**
+     * Constructs a segment tree from an array.
+     *
+     * Runs in {@code O(n)}.
+     * @param arr An array of type T from which the segment tree will be built.
+     * @param individualMapper A function to convert array elements of type T to the segment type R.
+     * @param accumulator A function to accumulate two segments of type R.
+     */
+    @SuppressWarnings("unchecked")
+    public IterSegTree(T[] arr, Function<T, R> individualMapper, BiFunction<R, R, R> accumulator) {
+        this.n = arr.length;
+        tree = (R[]) new Object[n << 1];
+        this.mapper = individualMapper;
+        this.accumulator = accumulator;
+        for (int i = 0; i < n; i++) {
+            tree[n + i] = mapper.apply(arr[i]);
+        }
+        build();
+    }
+
+    /**
+     * Constructs a segment tree from a list.
+     *
+     * Runs in {@code O(n)}.
+     * @param list A list of type T from which the segment tree will be built.
+     * @param individualMapper A function to convert list elements of type T to the segment type R.
+     * @param accumulator A function to accumulate two segments of type R.
+     */
+    @SuppressWarnings("unchecked")
+    public IterSegTree(List<T> list, Function<T, R> individualMapper, BiFunction<R, R, R> accumulator) {
+        this.n = list.size();
+        tree = (R[]) new Object[n << 1];
+        this.mapper = individualMapper;
+        this.accumulator = accumulator;
+        int i = n;
+        for (T t : list) {
+            tree[i++] = mapper.apply(t);
+        }
+        build();
+    }
+
+    private void build() {
+        for (int i = n - 1; i > 0; i--) {
+            tree[i] = accumulator.apply(tree[i << 1], tree[i << 1 | 1]);
+        }
+    }
+
+    /**
+     * Queries the aggregate value over a range [l, r].
+     * Runs in {@code O(log(n))}.
+     *
+     * @param l The left index of the range.
+     * @param r The right index of the range.
+     * @return The aggregated result over the range.
+     * @throws IllegalArgumentException If indexes {@code l} and {@code r} are not a valid range (where {@code 0 <= l <= r < n}).
+     */
+    public R query(int l, int r) {
+        if (l > r || l < 0 || r >= n) throw new IllegalArgumentException("Invalid Range: " + l + ", " + r + " for size " + n);
+        R left = null, right = null;
+        boolean hasLeft = false, hasRight = false;
+        for (l += n, r += n + 1; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                left = hasLeft ? accumulator.apply(left, tree[l]) : tree[l];
+                hasLeft = true;
+                l++;
+            }
+            if ((r & 1) == 1) {
+                r--;
+                right = hasRight ? accumulator.apply(tree[r], right) : tree[r];
+                hasRight = true;
+            }
+        }
+        if (!hasLeft) return right;
+        if (!hasRight) return left;
+        return accumulator.apply(left, right);
+    }
+
+    /**
+     * Updates the value at a specific index.
+     * Runs in {@code O(log(n))}.
+     *
+     * @param index The index to update.
+     * @param val The new value of type T.
+     */
+    public void set(int index, T val) {
+        int i = index + n;
+        tree[i] = mapper.apply(val);
+        for (i >>= 1; i > 0; i >>= 1) {
+            tree[i] = accumulator.apply(tree[i << 1], tree[i << 1 | 1]);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Struct;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A generic segment tree with lazy propagation that provides efficient range query and range update operations.
+ * Segments are built and combined like in {@link SegTree}, and an update tag of type F can be applied to a whole range at once.
+ * Tags are stored on the highest nodes covering the range and are only pushed down to the children when a later
+ * operation needs to look inside that node.
+ *
+ * The accumulator must be associative, the applier must distribute over it
+ * ({@code apply(f, acc(a, b)) == acc(apply(f, a), apply(f, b))}), and the composer must satisfy
+ * {@code apply(compose(g, f), x) == apply(g, apply(f, x))}. When the result of a tag depends on the segment length,
+ * as with range-add over sums, the segment type R should carry that length.
+ *
+ * @param <T> The type of the input elements stored in the initial array.
+ * @param <R> The result or operation type after applying the map and accumulation functions.
+ * @param <F> The type of the update tags.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+public class LazySegTree<T, R, F> {
+    private final BiFunction<R, R, R> accumulator;
+    private final Function<T, R> mapper;
+    private final BiFunction<F, R, R> applier;
+    private final BiFunction<F, F, F> composer;
+    private final int n;
+    private final R[] tree;
+    private final F[] lazy;
+
+    /**
+     * Constructs a lazy segment tree from an array.
+     *
+     * Runs in {@code O(n)}.
+     * @param arr An array of type T from which the segment tree will be built.
+     * @param individualMapper A function to convert array elements of type T to the segment type R.
+     * @param accumulator A function to accumulate two segments of type R.
+     * @param applier A function to apply an update tag to a segment.
+     * @param composer A function to combine a newer tag (first argument) with an older one (second argument).
+     */
+    @SuppressWarnings("unchecked")
+    public LazySegTree(T[] arr, Function<T, R> individualMapper, BiFunction<R, R, R> accumulator,
+                       BiFunction<F, R, R> applier, BiFunction<F, F, F> composer) {
+        tree = (R[]) new Object[arr.length << 2];
+        lazy = (F[]) new Object[arr.length << 2];
+        this.n = arr.length;
+        this.mapper = individualMapper;
+        this.accumulator = accumulator;
+        this.applier = applier;
+        this.composer = composer;
+        if (n > 0) build(arr, 0, 0, n - 1);
+    }
+
+    /**
+     * Constructs a lazy segment tree from a list.
+     *
+     * Runs in {@code O(n)}.
+     * @param list A list of type T from which the segment tree will be built.
+     * @param individualMapper A function to convert list elements of type T to the segment type R.
+     * @param accumulator A function to accumulate two segments of type R.
+     * @param applier A function to apply an update tag to a segment.
+     * @param composer A function to combine a newer tag (first argument) with an older one (second argument).
+     */
+    @SuppressWarnings("unchecked")
+    public LazySegTree(List<T> list, Function<T, R> individualMapper, BiFunction<R, R, R> accumulator,
+                       BiFunction<F, R, R> applier, BiFunction<F, F, F> composer) {
+        this((T[]) list.toArray(), individualMapper, accumulator, applier, composer);
+    }
+
+    private void build(T[] arr, int i, int l, int r) {
+        if (l == r) {
+            tree[i] = mapper.apply(arr[l]);
+            return;
+        }
+        int m = (l + r) / 2;
+        int i1 = i * 2 + 1, i2 = i1 + 1;
+        build(arr, i1, l, m);
+        build(arr, i2, m + 1, r);
+        tree[i] = accumulator.apply(tree[i1], tree[i2]);
+    }
+
+    private void tag(int i, F f) {
+        tree[i] = applier.apply(f, tree[i]);
+        lazy[i] = lazy[i] == null ? f : composer.apply(f, lazy[i]);
+    }
+
+    private void push(int i) {
+        if (lazy[i] == null) return;
+        tag(i * 2 + 1, lazy[i]);
+        tag(i * 2 + 2, lazy[i]);
+        lazy[i] = null;
+    }
+
+    /**
+     * Queries the aggregate value over a range [l, r].
+     * Runs in {@code O(log(n))}.
+     *
+     * @param l The left index of the range.
+     * @param r The right index of the range.
+     * @return The aggregated result over the range.
+     * @throws IllegalArgumentException If indexes {@code l} and {@code r} are not a valid range (where {@code 0 <= l <= r < n}).
+     */
+    public R query(int l, int r) {
+        if (l > r || l < 0 || r >= n) throw new IllegalArgumentException("Invalid Range: " + l + ", " + r + " for size " + n);
+        return query(0, 0, n - 1, l, r);
+    }
+
+    private R query(int i, int cl, int cr, int l, int r) {
+        if (l == cl && r == cr) return tree[i];
+        push(i);
+        int m = (cl + cr) / 2;
+        int i1 = i * 2 + 1, i2 = i1 + 1;
+        if (m >= r) {
+            return query(i1, cl, m, l, r);
+        }
+        else if (m < l) {
+            return query(i2, m + 1, cr, l, r);
+        }
+        else {
+            return accumulator.apply(query(i1, cl, m, l, m), query(i2, m + 1, cr, m + 1, r));
+        }
+    }
+
+    /**
+     * Applies an update tag to every element in the range [l, r].
+     * Runs in {@code O(log(n))}.
+     *
+     * @param l The left index of the range.
+     * @param r The right index of the range.
+     * @param f The update tag to apply, must not be null.
+     * @throws IllegalArgumentException If indexes {@code l} and {@code r} are not a valid range (where {@code 0 <= l <= r < n}).
+     */
+    public void update(int l, int r, F f) {
+        if (l > r || l < 0 || r >= n) throw new IllegalArgumentException("Invalid Range: " + l + ", " + r + " for size " + n);
+        update(0, 0, n - 1, l, r, f);
+    }
+
+    private void update(int i, int cl, int cr, int l, int r, F f) {
+        if (l == cl && r == cr) {
+            tag(i, f);
+            return;
+        }
+        push(i);
+        int m = (cl + cr) / 2;
+        int i1 = i * 2 + 1, i2 = i1 + 1;
+        if (m >= r) {
+            update(i1, cl, m, l, r, f);
+        }
+        else if (m < l) {
+            update(i2, m + 1, cr, l, r, f);
+        }
+        else {
+            update(i1, cl, m, l, m, f);
+            update(i2, m + 1, cr, m + 1, r, f);
+        }
+        tree[i] = accumulator.apply(tree[i1], tree[i2]);
+    }
+
+    /**
+     * Updates the value at a specific index, discarding any pending tags on it.
+     * Runs in {@code O(log(n))}.
+     *
+     * @param index The index to update.
+     * @param val The new value of type T.
+     */
+    public void set(int index, T val) {
+        set(0, 0, n - 1, index, val);
+    }
+
+    private void set(int i, int l, int r, int index, T val) {
+        if (l == r) {
+            tree[i] = mapper.apply(val);
+            lazy[i] = null;
+            return;
+        }
+        push(i);
+        int m = (l + r) / 2;
+        int i1 = i * 2 + 1, i2 = i1 + 1;
+        if (index <= m) set(i1, l, m, index, val);
+        else set(i2, m + 1, r, index, val);
+        tree[i] = accumulator.apply(tree[i1], tree[i2]);
+    }
+}
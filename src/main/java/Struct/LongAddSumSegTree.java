@@ -0,0 +1,161 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Struct;
+
+/**
+ * A lazy segment tree over a long array that supports adding a value to every element of a range
+ * and querying the sum of a range, both in {@code O(log(n))}, without boxing.
+ * Sums and pending additions are stored in flat {@code long[]} arrays.
+ *
+ * A specialization of {@link LazySegTree} for range-add/range-sum. Sums overflow silently like {@code long} arithmetic.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+public class LongAddSumSegTree {
+    private final int n;
+    private final long[] tree;
+    private final long[] lazy;
+
+    /**
+     * Constructs a segment tree from an array.
+     *
+     * Runs in {@code O(n)}.
+     * @param arr An array of values from which the segment tree will be built.
+     */
+    public LongAddSumSegTree(long[] arr) {
+        tree = new long[arr.length << 2];
+        lazy = new long[arr.length << 2];
+        this.n = arr.length;
+        if (n > 0) build(arr, 0, 0, n - 1);
+    }
+
+    private void build(long[] arr, int i, int l, int r) {
+        if (l == r) {
+            tree[i] = arr[l];
+            return;
+        }
+        int m = (l + r) / 2;
+        int i1 = i * 2 + 1, i2 = i1 + 1;
+        build(arr, i1, l, m);
+        build(arr, i2, m + 1, r);
+        tree[i] = tree[i1] + tree[i2];
+    }
+
+    private void push(int i, int l, int m, int r) {
+        long d = lazy[i];
+        if (d == 0) return;
+        int i1 = i * 2 + 1, i2 = i1 + 1;
+        tree[i1] += d * (m - l + 1);
+        lazy[i1] += d;
+        tree[i2] += d * (r - m);
+        lazy[i2] += d;
+        lazy[i] = 0;
+    }
+
+    /**
+     * Queries the sum over a range [l, r].
+     * Runs in {@code O(log(n))}.
+     *
+     * @param l The left index of the range.
+     * @param r The right index of the range.
+     * @return The sum of the range.
+     * @throws IllegalArgumentException If indexes {@code l} and {@code r} are not a valid range (where {@code 0 <= l <= r < n}).
+     */
+    public long query(int l, int r) {
+        if (l > r || l < 0 || r >= n) throw new IllegalArgumentException("Invalid Range: " + l + ", " + r + " for size " + n);
+        return query(0, 0, n - 1, l, r);
+    }
+
+    private long query(int i, int cl, int cr, int l, int r) {
+        if (l == cl && r == cr) return tree[i];
+        int m = (cl + cr) / 2;
+        push(i, cl, m, cr);
+        int i1 = i * 2 + 1, i2 = i1 + 1;
+        if (m >= r) {
+            return query(i1, cl, m, l, r);
+        }
+        else if (m < l) {
+            return query(i2, m + 1, cr, l, r);
+        }
+        else {
+            return query(i1, cl, m, l, m) + query(i2, m + 1, cr, m + 1, r);
+        }
+    }
+
+    /**
+     * Adds a value to every element in the range [l, r].
+     * Runs in {@code O(log(n))}.
+     *
+     * @param l The left index of the range.
+     * @param r The right index of the range.
+     * @param delta The value to add.
+     * @throws IllegalArgumentException If indexes {@code l} and {@code r} are not a valid range (where {@code 0 <= l <= r < n}).
+     */
+    public void add(int l, int r, long delta) {
+        if (l > r || l < 0 || r >= n) throw new IllegalArgumentException("Invalid Range: " + l + ", " + r + " for size " + n);
+        add(0, 0, n - 1, l, r, delta);
+    }
+
+    private void add(int i, int cl, int cr, int l, int r, long delta) {
+        if (l == cl && r == cr) {
+            tree[i] += delta * (cr - cl + 1);
+            lazy[i] += delta;
+            return;
+        }
+        int m = (cl + cr) / 2;
+        push(i, cl, m, cr);
+        int i1 = i * 2 + 1, i2 = i1 + 1;
+        if (m >= r) {
+            add(i1, cl, m, l, r, delta);
+        }
+        else if (m < l) {
+            add(i2, m + 1, cr, l, r, delta);
+        }
+        else {
+            add(i1, cl, m, l, m, delta);
+            add(i2, m + 1, cr, m + 1, r, delta);
+        }
+        tree[i] = tree[i1] + tree[i2];
+    }
+
+    /**
+     * Updates the value at a specific index.
+     * Runs in {@code O(log(n))}.
+     *
+     * @param index The index to update.
+     * @param val The new value.
+     */
+    public void set(int index, long val) {
+        set(0, 0, n - 1, index, val);
+    }
+
+    private void set(int i, int l, int r, int index, long val) {
+        if (l == r) {
+            tree[i] = val;
+            lazy[i] = 0;
+            return;
+        }
+        int m = (l + r) / 2;
+        push(i, l, m, r);
+        int i1 = i * 2 + 1, i2 = i1 + 1;
+        if (index <= m) set(i1, l, m, index, val);
+        else set(i2, m + 1, r, index, val);
+        tree[i] = tree[i1] + tree[i2];
+    }
+}
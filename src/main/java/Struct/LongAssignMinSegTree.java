@@ -0,0 +1,150 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Struct;
+
+/**
+ * A lazy segment tree over a long array that supports assigning a value to every element of a range
+ * and querying the minimum of a range, both in {@code O(log(n))}, without boxing.
+ * Minimums and pending assignments are stored in flat primitive arrays.
+ *
+ * A specialization of {@link LazySegTree} for range-assign/range-min.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+public class LongAssignMinSegTree {
+    private final int n;
+    private final long[] tree;
+    private final long[] lazy;
+    private final boolean[] pending;
+
+    /**
+     * Constructs a segment tree from an array.
+     *
+     * Runs in {@code O(n)}.
+     * @param arr An array of values from which the segment tree will be built.
+     */
+    public LongAssignMinSegTree(long[] arr) {
+        tree = new long[arr.length << 2];
+        lazy = new long[arr.length << 2];
+        pending = new boolean[arr.length << 2];
+        this.n = arr.length;
+        if (n > 0) build(arr, 0, 0, n - 1);
+    }
+
+    private void build(long[] arr, int i, int l, int r) {
+        if (l == r) {
+            tree[i] = arr[l];
+            return;
+        }
+        int m = (l + r) / 2;
+        int i1 = i * 2 + 1, i2 = i1 + 1;
+        build(arr, i1, l, m);
+        build(arr, i2, m + 1, r);
+        tree[i] = Math.min(tree[i1], tree[i2]);
+    }
+
+    private void tag(int i, long val) {
+        tree[i] = val;
+        lazy[i] = val;
+        pending[i] = true;
+    }
+
+    private void push(int i) {
+        if (!pending[i]) return;
+        tag(i * 2 + 1, lazy[i]);
+        tag(i * 2 + 2, lazy[i]);
+        pending[i] = false;
+    }
+
+    /**
+     * Queries the minimum over a range [l, r].
+     * Runs in {@code O(log(n))}.
+     *
+     * @param l The left index of the range.
+     * @param r The right index of the range.
+     * @return The minimum of the range.
+     * @throws IllegalArgumentException If indexes {@code l} and {@code r} are not a valid range (where {@code 0 <= l <= r < n}).
+     */
+    public long query(int l, int r) {
+        if (l > r || l < 0 || r >= n) throw new IllegalArgumentException("Invalid Range: " + l + ", " + r + " for size " + n);
+        return query(0, 0, n - 1, l, r);
+    }
+
+    private long query(int i, int cl, int cr, int l, int r) {
+        if (l == cl && r == cr) return tree[i];
+        push(i);
+        int m = (cl + cr) / 2;
+        int i1 = i * 2 + 1, i2 = i1 + 1;
+        if (m >= r) {
+            return query(i1, cl, m, l, r);
+        }
+        else if (m < l) {
+            return query(i2, m + 1, cr, l, r);
+        }
+        else {
+            return Math.min(query(i1, cl, m, l, m), query(i2, m + 1, cr, m + 1, r));
+        }
+    }
+
+    /**
+     * Assigns a value to every element in the range [l, r].
+     * Runs in {@code O(log(n))}.
+     *
+     * @param l The left index of the range.
+     * @param r The right index of the range.
+     * @param val The value to assign.
+     * @throws IllegalArgumentException If indexes {@code l} and {@code r} are not a valid range (where {@code 0 <= l <= r < n}).
+     */
+    public void assign(int l, int r, long val) {
+        if (l > r || l < 0 || r >= n) throw new IllegalArgumentException("Invalid Range: " + l + ", " + r + " for size " + n);
+        assign(0, 0, n - 1, l, r, val);
+    }
+
+    private void assign(int i, int cl, int cr, int l, int r, long val) {
+        if (l == cl && r == cr) {
+            tag(i, val);
+            return;
+        }
+        push(i);
+        int m = (cl + cr) / 2;
+        int i1 = i * 2 + 1, i2 = i1 + 1;
+        if (m >= r) {
+            assign(i1, cl, m, l, r, val);
+        }
+        else if (m < l) {
+            assign(i2, m + 1, cr, l, r, val);
+        }
+        else {
+            assign(i1, cl, m, l, m, val);
+            assign(i2, m + 1, cr, m + 1, r, val);
+        }
+        tree[i] = Math.min(tree[i1], tree[i2]);
+    }
+
+    /**
+     * Updates the value at a specific index.
+     * Runs in {@code O(log(n))}.
+     *
+     * @param index The index to update.
+     * @param val The new value.
+     */
+    public void set(int index, long val) {
+        assign(index, index, val);
+    }
+}
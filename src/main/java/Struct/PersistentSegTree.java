@@ -0,0 +1,221 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Struct;
+
+import java.util.Arrays;
+
+/**
+ * A persistent segment tree over long sums that keeps every version of the array available for querying.
+ * Each update copies only the {@code O(log(n))} nodes on the path from the root to the changed leaf and shares
+ * everything else with the previous version, so updating and querying any version both run in {@code O(log(n))}.
+ *
+ * Nodes are stored in pooled primitive arrays rather than node objects. Node 0 is a shared all-zero node whose
+ * children are itself, so an empty tree costs no memory. Versions are numbered from 0, the initial array,
+ * and every update returns the number of the version it creates.
+ *
+ * Besides historical range sums, a tree built with {@link #PersistentSegTree(int)} over compressed values
+ * answers k-th smallest queries on any subarray through {@link #kth(int, int, long)}.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+public class PersistentSegTree {
+    private final int n;
+    private int[] left;
+    private int[] right;
+    private long[] sums;
+    private int nodes;
+    private int[] roots;
+    private int versions;
+
+    /**
+     * Constructs a persistent segment tree where version 0 holds {@code n} zeros.
+     *
+     * Runs in {@code O(1)}.
+     * @param n The number of elements.
+     */
+    public PersistentSegTree(int n) {
+        this.n = n;
+        int capacity = 16;
+        left = new int[capacity];
+        right = new int[capacity];
+        sums = new long[capacity];
+        nodes = 1;
+        roots = new int[16];
+        versions = 1;
+    }
+
+    /**
+     * Constructs a persistent segment tree where version 0 holds the values of an array.
+     *
+     * Runs in {@code O(n)}.
+     * @param arr An array of values from which the segment tree will be built.
+     */
+    public PersistentSegTree(long[] arr) {
+        this(arr.length);
+        if (n > 0) roots[0] = build(arr, 0, n - 1);
+    }
+
+    private int build(long[] arr, int l, int r) {
+        if (l == r) return node(0, 0, arr[l]);
+        int m = (l + r) / 2;
+        int a = build(arr, l, m);
+        int b = build(arr, m + 1, r);
+        return node(a, b, sums[a] + sums[b]);
+    }
+
+    private int node(int l, int r, long sum) {
+        if (nodes == sums.length) {
+            int capacity = nodes << 1;
+            left = Arrays.copyOf(left, capacity);
+            right = Arrays.copyOf(right, capacity);
+            sums = Arrays.copyOf(sums, capacity);
+        }
+        left[nodes] = l;
+        right[nodes] = r;
+        sums[nodes] = sum;
+        return nodes++;
+    }
+
+    private int addVersion(int root) {
+        if (versions == roots.length) roots = Arrays.copyOf(roots, versions << 1);
+        roots[versions] = root;
+        return versions++;
+    }
+
+    private int root(int version) {
+        if (version < 0 || version >= versions) throw new IllegalArgumentException("Invalid Version: " + version + " of " + versions);
+        return roots[version];
+    }
+
+    /**
+     * Gets the number of versions created so far, including the initial version 0.
+     * @return The number of versions.
+     */
+    public int versions() {
+        return versions;
+    }
+
+    /**
+     * Creates a new version equal to {@code version} with the value at {@code index} replaced.
+     * Runs in {@code O(log(n))} time and memory.
+     *
+     * @param version The version to update.
+     * @param index The index to update.
+     * @param val The new value.
+     * @return The number of the new version.
+     * @throws IllegalArgumentException If {@code version} does not exist or {@code index} is not a valid index.
+     */
+    public int set(int version, int index, long val) {
+        int root = root(version);
+        if (index < 0 || index >= n) throw new IllegalArgumentException("Invalid Index: " + index + " for size " + n);
+        return addVersion(update(root, 0, n - 1, index, val, false));
+    }
+
+    /**
+     * Creates a new version equal to {@code version} with {@code delta} added to the value at {@code index}.
+     * Runs in {@code O(log(n))} time and memory.
+     *
+     * @param version The version to update.
+     * @param index The index to update.
+     * @param delta The value to add.
+     * @return The number of the new version.
+     * @throws IllegalArgumentException If {@code version} does not exist or {@code index} is not a valid index.
+     */
+    public int add(int version, int index, long delta) {
+        int root = root(version);
+        if (index < 0 || index >= n) throw new IllegalArgumentException("Invalid Index: " + index + " for size " + n);
+        return addVersion(update(root, 0, n - 1, index, delta, true));
+    }
+
+    private int update(int i, int l, int r, int index, long val, boolean add) {
+        if (l == r) return node(0, 0, add ? sums[i] + val : val);
+        int m = (l + r) / 2;
+        int a = left[i], b = right[i];
+        if (index <= m) a = update(a, l, m, index, val, add);
+        else b = update(b, m + 1, r, index, val, add);
+        return node(a, b, sums[a] + sums[b]);
+    }
+
+    /**
+     * Queries the sum over a range [l, r] as of a version.
+     * Runs in {@code O(log(n))}.
+     *
+     * @param version The version to query.
+     * @param l The left index of the range.
+     * @param r The right index of the range.
+     * @return The sum of the range in that version.
+     * @throws IllegalArgumentException If {@code version} does not exist or indexes {@code l} and {@code r} are not a valid range (where {@code 0 <= l <= r < n}).
+     */
+    public long query(int version, int l, int r) {
+        int root = root(version);
+        if (l > r || l < 0 || r >= n) throw new IllegalArgumentException("Invalid Range: " + l + ", " + r + " for size " + n);
+        return query(root, 0, n - 1, l, r);
+    }
+
+    private long query(int i, int cl, int cr, int l, int r) {
+        if (i == 0) return 0;
+        if (l == cl && r == cr) return sums[i];
+        int m = (cl + cr) / 2;
+        if (m >= r) {
+            return query(left[i], cl, m, l, r);
+        }
+        else if (m < l) {
+            return query(right[i], m + 1, cr, l, r);
+        }
+        else {
+            return query(left[i], cl, m, l, m) + query(right[i], m + 1, cr, m + 1, r);
+        }
+    }
+
+    /**
+     * Finds the k-th counted index in the difference between two versions of a tree of non-negative counts.
+     *
+     * With values compressed to {@code [0, n)} and version {@code i + 1} created by adding 1 at the value of
+     * {@code arr[i]} to version {@code i}, {@code kth(l, r + 1, k)} is the compressed value of the k-th smallest
+     * element of {@code arr[l..r]}.
+     * Runs in {@code O(log(n))}.
+     *
+     * @param from The older version, whose counts are subtracted.
+     * @param to The newer version.
+     * @param k The zero-based rank of the element to find.
+     * @return The smallest index {@code i} such that the counts over [0, i] differ by more than {@code k}, or -1 if there are not enough.
+     * @throws IllegalArgumentException If either version does not exist.
+     */
+    public int kth(int from, int to, long k) {
+        int a = root(from), b = root(to);
+        if (n == 0 || k < 0 || k >= sums[b] - sums[a]) return -1;
+        int l = 0, r = n - 1;
+        while (l < r) {
+            int m = (l + r) / 2;
+            long count = sums[left[b]] - sums[left[a]];
+            if (k < count) {
+                a = left[a];
+                b = left[b];
+                r = m;
+            }
+            else {
+                k -= count;
+                a = right[a];
+                b = right[b];
+                l = m + 1;
+            }
+        }
+        return l;
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Struct;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A compressed (radix or Patricia) Trie, where every chain of nodes with a single child is merged into one edge
+ * labelled with a string. Words with long unique tails then cost one node instead of one node per character,
+ * and lookups compare runs of characters instead of following a pointer per character.
+ *
+ * Supports the same insertion and search operations as {@link Trie} over any characters, plus counting and
+ * listing the words with a given prefix. Edge labels are ranges of a single shared {@code char[]}, to which each
+ * inserted word appends only its new tail, and nodes are stored in flat primitive arrays.
+ * Children are kept sorted by their first character, so words are listed in lexicographic order.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+public class RadixTrie {
+    private char[] chars = new char[64];
+    private int used;
+
+    // per node: label range in chars, first child, next sibling, words in the subtree
+    private int[] start = new int[16];
+    private int[] length = new int[16];
+    private int[] child = new int[16];
+    private int[] sibling = new int[16];
+    private int[] words = new int[16];
+    private long[] terminal = new long[1];
+    private int nodes = 1;
+
+    /**
+     * Constructs an empty RadixTrie.
+     */
+    public RadixTrie() {
+    }
+
+    private int node(int from, int len) {
+        if (nodes == start.length) {
+            int capacity = nodes << 1;
+            start = Arrays.copyOf(start, capacity);
+            length = Arrays.copyOf(length, capacity);
+            child = Arrays.copyOf(child, capacity);
+            sibling = Arrays.copyOf(sibling, capacity);
+            words = Arrays.copyOf(words, capacity);
+        }
+        if (nodes >> 6 >= terminal.length) terminal = Arrays.copyOf(terminal, terminal.length << 1);
+        start[nodes] = from;
+        length[nodes] = len;
+        return nodes++;
+    }
+
+    private boolean isTerminal(int v) {
+        return (terminal[v >> 6] & 1L << v) != 0;
+    }
+
+    /**
+     * Finds the child of v whose label starts with c.
+     * @return The child, or 0 if there is none.
+     */
+    private int find(int v, char c) {
+        for (int u = child[v]; u != 0; u = sibling[u]) {
+            char first = chars[start[u]];
+            if (first == c) return u;
+            if (first > c) return 0;
+        }
+        return 0;
+    }
+
+    /**
+     * Inserts a word into the Trie.
+     * Runs in {@code O(m * d)} where m is the length of the word and d is the largest number of children of a node on its path.
+     *
+     * @param word A sequence of characters representing the word to insert.
+     */
+    public void insert(CharSequence word) {
+        if (contains(word)) return;
+        int n = word.length();
+        int v = 0, i = 0;
+        words[0]++;
+        while (i < n) {
+            char c = word.charAt(i);
+            int prev = 0, u = child[v];
+            while (u != 0 && chars[start[u]] < c) {
+                prev = u;
+                u = sibling[u];
+            }
+            if (u == 0 || chars[start[u]] != c) {
+                // no edge starts with c, so the rest of the word becomes a new leaf
+                if (used + n - i > chars.length) chars = Arrays.copyOf(chars, Math.max(chars.length << 1, used + n - i));
+                for (int j = i; j < n; j++) {
+                    chars[used + j - i] = word.charAt(j);
+                }
+                int leaf = node(used, n - i);
+                used += n - i;
+                link(v, prev, leaf, u);
+                v = leaf;
+                words[v]++;
+                break;
+            }
+            int k = 1, len = length[u], s = start[u];
+            while (k < len && i + k < n && chars[s + k] == word.charAt(i + k)) k++;
+            if (k < len) {
+                // the word leaves the label part way, so split the edge into [0, k) and [k, len)
+                int mid = node(s, k);
+                start[u] = s + k;
+                length[u] = len - k;
+                words[mid] = words[u];
+                child[mid] = u;
+                link(v, prev, mid, sibling[u]);
+                sibling[u] = 0;
+                u = mid;
+            }
+            v = u;
+            words[v]++;
+            i += k;
+        }
+        terminal[v >> 6] |= 1L << v;
+    }
+
+    /**
+     * Places u among the children of v, after prev (0 for first) and before next.
+     */
+    private void link(int v, int prev, int u, int next) {
+        sibling[u] = next;
+        if (prev == 0) child[v] = u;
+        else sibling[prev] = u;
+    }
+
+    /**
+     * Walks down from the root along a string.
+     * @return The node whose path first covers the whole string in the high 32 bits and how many characters
+     *         of its label run past the end of the string in the low 32 bits, or -1 if no word continues the string.
+     */
+    private long walk(CharSequence s) {
+        int n = s.length();
+        int v = 0, i = 0;
+        while (i < n) {
+            int u = find(v, s.charAt(i));
+            if (u == 0) return -1;
+            int len = length[u], from = start[u];
+            for (int k = 1; k < len && i + k < n; k++) {
+                if (chars[from + k] != s.charAt(i + k)) return -1;
+            }
+            v = u;
+            i += len;
+        }
+        return (long) v << 32 | (i - n);
+    }
+
+    /**
+     * Checks if a word is in the Trie.
+     * Runs in {@code O(m * d)} where m is the length of the word and d is the largest number of children of a node on its path.
+     *
+     * @param word The word to check.
+     * @return true if the Trie contains the word, false otherwise.
+     */
+    public boolean contains(CharSequence word) {
+        long w = walk(word);
+        return w >= 0 && (int) w == 0 && isTerminal((int) (w >>> 32));
+    }
+
+    /**
+     * Counts the words in the Trie that start with a prefix.
+     * Runs in {@code O(m * d)} where m is the length of the prefix and d is the largest number of children of a node on its path.
+     *
+     * @param prefix The prefix to count.
+     * @return The number of words starting with the prefix.
+     */
+    public int countPrefix(CharSequence prefix) {
+        long w = walk(prefix);
+        return w < 0 ? 0 : words[(int) (w >>> 32)];
+    }
+
+    /**
+     * Lists the words in the Trie that start with a prefix, in lexicographic order.
+     * Runs in {@code O(m * d + output)}.
+     *
+     * @param prefix The prefix to search for.
+     * @return The words starting with the prefix.
+     */
+    public List<String> withPrefix(CharSequence prefix) {
+        List<String> result = new ArrayList<>();
+        long w = walk(prefix);
+        if (w < 0) return result;
+        int v = (int) (w >>> 32), overshoot = (int) w;
+        StringBuilder sb = new StringBuilder(prefix);
+        sb.append(chars, start[v] + length[v] - overshoot, overshoot);
+        collect(v, sb, result);
+        return result;
+    }
+
+    private void collect(int v, StringBuilder sb, List<String> result) {
+        if (isTerminal(v)) result.add(sb.toString());
+        int len = sb.length();
+        for (int u = child[v]; u != 0; u = sibling[u]) {
+            sb.append(chars, start[u], length[u]);
+            collect(u, sb, result);
+            sb.setLength(len);
+        }
+    }
+
+    /**
+     * Gets the number of words in the Trie.
+     *
+     * @return The number of words.
+     */
+    public int size() {
+        return words[0];
+    }
+
+    /**
+     * Gets the number of nodes in the Trie, including the root.
+     *
+     * @return The number of nodes.
+     */
+    public int nodes() {
+        return nodes;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Struct;
+
+import java.util.Arrays;
+
+/**
+ * A Disjoint Set Union whose unions can be undone, for offline algorithms that explore and then backtrack,
+ * such as {@link DynamicConnectivity}.
+ *
+ * Uses union by size without path compression, so every union changes exactly two entries, which are
+ * recorded on a change stack. {@link #snapshot()} marks a point on the stack and {@link #rollback(int)} undoes
+ * every union made after it in {@code O(1)} per union.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+public class RollbackDSU {
+    /**
+     * The parent of each element, or the negated size of its set if the element is a representative.
+     */
+    int[] parents;
+    int components;
+
+    /**
+     * Pairs of (absorbed root, its previous entry in {@link #parents}), one pair per successful union.
+     */
+    private int[] history;
+    private int top;
+
+    /**
+     * Initializes the DSU with n elements, each element is its own set initially.
+     *
+     * Runs in {@code O(n)}.
+     * @param n The total number of elements.
+     */
+    public RollbackDSU(int n) {
+        parents = new int[n];
+        Arrays.fill(parents, -1);
+        components = n;
+        history = new int[16];
+    }
+
+    /**
+     * Finds the representative of the set that x is a part of.
+     * Union by size keeps the trees shallow, so no path compression is needed.
+     *
+     * Runs in {@code O(log(n))}.
+     * @param x The element to find.
+     * @return The representative item of the set containing 'x'.
+     */
+    public int find(int x) {
+        while (parents[x] >= 0) x = parents[x];
+        return x;
+    }
+
+    /**
+     * Unites the set that includes 'x' with the set that includes 'y', recording the change so it can be rolled back.
+     * Uses union by size, ensuring the smaller set points to the representative of the larger set.
+     *
+     * Runs in {@code O(log(n))}.
+     * @param x First element.
+     * @param y Second element.
+     * @return true if the union was successful and the elements were previously in different sets, false otherwise.
+     */
+    public boolean union(int x, int y) {
+        int xRoot = find(x);
+        int yRoot = find(y);
+        if (xRoot == yRoot) return false;
+        if (parents[xRoot] > parents[yRoot]) {
+            int tmp = xRoot;
+            xRoot = yRoot;
+            yRoot = tmp;
+        }
+        if (top == history.length) history = Arrays.copyOf(history, top << 1);
+        history[top++] = yRoot;
+        history[top++] = parents[yRoot];
+        parents[xRoot] += parents[yRoot];
+        parents[yRoot] = xRoot;
+        components--;
+        return true;
+    }
+
+    /**
+     * Marks the current state so it can be restored with {@link #rollback(int)}.
+     *
+     * Runs in {@code O(1)}.
+     * @return A handle for the current state.
+     */
+    public int snapshot() {
+        return top;
+    }
+
+    /**
+     * Undoes every union made since {@code snapshot} was taken, most recent first.
+     *
+     * Runs in {@code O(1)} per undone union.
+     * @param snapshot A handle returned by {@link #snapshot()}.
+     * @throws IllegalArgumentException If {@code snapshot} is not a handle of the current or an earlier state.
+     */
+    public void rollback(int snapshot) {
+        if (snapshot < 0 || snapshot > top || (snapshot & 1) != 0) throw new IllegalArgumentException("Invalid Snapshot: " + snapshot);
+        while (top > snapshot) {
+            int old = history[--top];
+            int yRoot = history[--top];
+            parents[parents[yRoot]] -= old;
+            parents[yRoot] = old;
+            components++;
+        }
+    }
+
+    /**
+     * Checks if the elements 'x' and 'y' are in the same set.
+     *
+     * Runs in {@code O(log(n))}.
+     * @param x First element.
+     * @param y Second element.
+     * @return true if 'x' and 'y' are in the same set, false otherwise.
+     */
+    public boolean connected(int x, int y) {
+        return find(x) == find(y);
+    }
+
+    /**
+     * Gets the number of disjoint sets.
+     *
+     * Runs in {@code O(1)}.
+     * @return The number of sets.
+     */
+    public int components() {
+        return components;
+    }
+}
@@ -16,9 +16,13 @@
 
 package Struct;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * A generic segment tree implementation that provides efficient range query and point update operations.
@@ -32,6 +36,11 @@ import java.util.function.Function;
  * @since 1.0
  */
 public class SegTree<T, R> {
+    /**
+     * The smallest number of leaves worth building on a separate fork-join task.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
     private final BiFunction<R, R, R> accumulator;
     private final Function<T, R> mapper;
     private final int n;
@@ -71,6 +80,80 @@ public class SegTree<T, R> {
         build(list, 0, 0, n - 1);
     }
 
+    /**
+     * Constructs a segment tree from an array, optionally building it in parallel on the common {@link ForkJoinPool}.
+     * The mapper and accumulator must then be safe to call from several threads at once.
+     * Queries and updates are unaffected and remain single-threaded.
+     *
+     * Runs in {@code O(n)}.
+     * @param arr An array of type T from which the segment tree will be built.
+     * @param individualMapper A function to convert array elements of type T to the segment type R.
+     * @param accumulator A function to accumulate two segments of type R.
+     * @param parallel Whether to split the build across the fork-join pool.
+     */
+    @SuppressWarnings("unchecked")
+    public SegTree(T[] arr, Function<T, R> individualMapper, BiFunction<R, R, R> accumulator, boolean parallel) {
+        tree = (R[]) new Object[arr.length << 2];
+        this.n = arr.length;
+        this.mapper = individualMapper;
+        this.accumulator = accumulator;
+        if (parallel) ForkJoinPool.commonPool().invoke(new Build(arr, 0, 0, n - 1));
+        else build(arr, 0, 0, n - 1);
+    }
+
+    /**
+     * Constructs a segment tree from a list, optionally building it in parallel on the common {@link ForkJoinPool}.
+     * The mapper and accumulator must then be safe to call from several threads at once,
+     * and the list is copied to an array first so the workers get random access.
+     * Queries and updates are unaffected and remain single-threaded.
+     *
+     * Runs in {@code O(n)}.
+     * @param list A list of type T from which the segment tree will be built.
+     * @param individualMapper A function to convert list elements of type T to the segment type R.
+     * @param accumulator A function to accumulate two segments of type R.
+     * @param parallel Whether to split the build across the fork-join pool.
+     */
+    @SuppressWarnings("unchecked")
+    public SegTree(List<T> list, Function<T, R> individualMapper, BiFunction<R, R, R> accumulator, boolean parallel) {
+        tree = (R[]) new Object[list.size() << 2];
+        this.n = list.size();
+        this.mapper = individualMapper;
+        this.accumulator = accumulator;
+        if (parallel) ForkJoinPool.commonPool().invoke(new Build((T[]) list.toArray(), 0, 0, n - 1));
+        else build(list, 0, 0, n - 1);
+    }
+
+    /**
+     * Builds the subtree rooted at {@code i}, forking both halves until they are below {@link #PARALLEL_THRESHOLD}.
+     */
+    private final class Build extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] arr;
+        private final int i;
+        private final int l;
+        private final int r;
+
+        Build(T[] arr, int i, int l, int r) {
+            this.arr = arr;
+            this.i = i;
+            this.l = l;
+            this.r = r;
+        }
+
+        @Override
+        protected void compute() {
+            if (r - l < PARALLEL_THRESHOLD) {
+                build(arr, i, l, r);
+                return;
+            }
+            int m = (l + r) / 2;
+            int i1 = i * 2 + 1, i2 = i1 + 1;
+            invokeAll(new Build(arr, i1, l, m), new Build(arr, i2, m + 1, r));
+            tree[i] = accumulator.apply(tree[i1], tree[i2]);
+        }
+    }
+
     private void build(T[] arr, int i, int l, int r) {
         if (l == r) {
             tree[i] = mapper.apply(arr[l]);
@@ -146,4 +229,203 @@ public class SegTree<T, R> {
         else update(i2, m + 1, r, index, val);
         tree[i] = accumulator.apply(tree[i1], tree[i2]);
     }
-}
\ No newline at end of file
+
+    /**
+     * Answers a batch of range queries, writing the result of [ls[j], rs[j]] to {@code results[j]}.
+     * Queries are answered in order of their left index, so consecutive walks share the same path through the tree.
+     * Runs in {@code O(q log(q) + q log(n))}.
+     *
+     * @param ls The left indexes of the ranges.
+     * @param rs The right indexes of the ranges.
+     * @param results The array to store the results in, at least as long as {@code ls}.
+     * @throws IllegalArgumentException If the arrays have different lengths or any range is invalid (where {@code 0 <= l <= r < n}).
+     */
+    public void query(int[] ls, int[] rs, R[] results) {
+        query(ls, rs, results, false);
+    }
+
+    /**
+     * Answers a batch of range queries, writing the result of [ls[j], rs[j]] to {@code results[j]}, optionally
+     * splitting the batch across the common {@link ForkJoinPool}. The tree must not be updated while a parallel batch runs.
+     * Queries are answered in order of their left index, so consecutive walks share the same path through the tree.
+     * Runs in {@code O(q log(q) + q log(n))}.
+     *
+     * @param ls The left indexes of the ranges.
+     * @param rs The right indexes of the ranges.
+     * @param results The array to store the results in, at least as long as {@code ls}.
+     * @param parallel Whether to answer the queries on several threads.
+     * @throws IllegalArgumentException If the arrays have different lengths or any range is invalid (where {@code 0 <= l <= r < n}).
+     */
+    public void query(int[] ls, int[] rs, R[] results, boolean parallel) {
+        int q = ls.length;
+        if (rs.length != q || results.length < q) throw new IllegalArgumentException("Mismatched batch lengths: " + q + ", " + rs.length + ", " + results.length);
+        long[] order = new long[q];
+        for (int j = 0; j < q; j++) {
+            int l = ls[j], r = rs[j];
+            if (l > r || l < 0 || r >= n) throw new IllegalArgumentException("Invalid Range: " + l + ", " + r + " for size " + n);
+            order[j] = (long) l << 32 | j;
+        }
+        Arrays.sort(order);
+        if (parallel) {
+            ForkJoinPool.commonPool().invoke(new BatchQuery(order, 0, q, ls, rs, results));
+        }
+        else {
+            for (long o : order) {
+                int j = (int) o;
+                results[j] = query(0, 0, n - 1, ls[j], rs[j]);
+            }
+        }
+    }
+
+    /**
+     * Answers the sorted queries {@code order[from, to)}, forking halves until they are below {@link #PARALLEL_THRESHOLD}.
+     */
+    private final class BatchQuery extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] order;
+        private final int from;
+        private final int to;
+        private final int[] ls;
+        private final int[] rs;
+        private final R[] results;
+
+        BatchQuery(long[] order, int from, int to, int[] ls, int[] rs, R[] results) {
+            this.order = order;
+            this.from = from;
+            this.to = to;
+            this.ls = ls;
+            this.rs = rs;
+            this.results = results;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from < PARALLEL_THRESHOLD) {
+                for (int k = from; k < to; k++) {
+                    int j = (int) order[k];
+                    results[j] = query(0, 0, n - 1, ls[j], rs[j]);
+                }
+                return;
+            }
+            int m = (from + to) >>> 1;
+            invokeAll(new BatchQuery(order, from, m, ls, rs, results), new BatchQuery(order, m, to, ls, rs, results));
+        }
+    }
+
+    /**
+     * Applies a batch of point updates, setting {@code indexes[j]} to {@code vals[j]}.
+     * When an index appears more than once, the last update to it wins, as if the updates were applied in order.
+     * All updates are applied in a single walk that recomputes each affected node once,
+     * instead of once per update.
+     * Runs in {@code O(k log(k) + k log(n))}.
+     *
+     * @param indexes The indexes to update.
+     * @param vals The new values of type T.
+     * @throws IllegalArgumentException If the arrays have different lengths or any index is invalid (where {@code 0 <= index < n}).
+     */
+    public void set(int[] indexes, T[] vals) {
+        int k = indexes.length;
+        if (vals.length != k) throw new IllegalArgumentException("Mismatched batch lengths: " + k + ", " + vals.length);
+        long[] order = new long[k];
+        for (int j = 0; j < k; j++) {
+            int index = indexes[j];
+            if (index < 0 || index >= n) throw new IllegalArgumentException("Invalid Index: " + index + " for size " + n);
+            order[j] = (long) index << 32 | j;
+        }
+        Arrays.sort(order);
+        int unique = 0;
+        for (int j = 0; j < k; j++) {
+            // keep only the last update to each index
+            if (j + 1 < k && order[j] >>> 32 == order[j + 1] >>> 32) continue;
+            order[unique++] = order[j];
+        }
+        if (unique > 0) update(0, 0, n - 1, order, 0, unique, vals);
+    }
+
+    private void update(int i, int l, int r, long[] order, int from, int to, T[] vals) {
+        if (l == r) {
+            tree[i] = mapper.apply(vals[(int) order[from]]);
+            return;
+        }
+        int m = (l + r) / 2;
+        int i1 = i * 2 + 1, i2 = i1 + 1;
+        int split = from;
+        while (split < to && order[split] >>> 32 <= m) split++;
+        if (split > from) update(i1, l, m, order, from, split, vals);
+        if (split < to) update(i2, m + 1, r, order, split, to, vals);
+        tree[i] = accumulator.apply(tree[i1], tree[i2]);
+    }
+
+    /**
+     * Finds how far a range starting at {@code l} can extend to the right while its aggregate satisfies a predicate,
+     * in a single walk down the tree.
+     * The predicate must be monotone: once it fails for [l, r] it must fail for every larger r.
+     * Runs in {@code O(log(n))}.
+     *
+     * @param l The left index of the range.
+     * @param predicate The condition tested against {@code query(l, r)}.
+     * @return The largest {@code r} such that {@code predicate} holds for {@code query(l, r)}, or {@code l - 1} if it fails for [l, l].
+     * @throws IllegalArgumentException If {@code l} is not a valid index (where {@code 0 <= l < n}).
+     */
+    public int maxRight(int l, Predicate<R> predicate) {
+        if (l < 0 || l >= n) throw new IllegalArgumentException("Invalid Index: " + l + " for size " + n);
+        int bad = maxRight(0, 0, n - 1, l, predicate, new Single<>());
+        return bad < 0 ? n - 1 : bad - 1;
+    }
+
+    /**
+     * Returns the first index in [max(l, cl), cr] where the predicate fails, or -1 if it holds through {@code cr}.
+     * The leftmost covered node starts exactly at {@code l}, so it begins the aggregate.
+     */
+    private int maxRight(int i, int cl, int cr, int l, Predicate<R> predicate, Single<R> acc) {
+        if (cr < l) return -1;
+        if (l <= cl) {
+            R combined = cl == l ? tree[i] : accumulator.apply(acc.a, tree[i]);
+            if (predicate.test(combined)) {
+                acc.a = combined;
+                return -1;
+            }
+            if (cl == cr) return cl;
+        }
+        int m = (cl + cr) / 2;
+        int bad = maxRight(i * 2 + 1, cl, m, l, predicate, acc);
+        return bad >= 0 ? bad : maxRight(i * 2 + 2, m + 1, cr, l, predicate, acc);
+    }
+
+    /**
+     * Finds how far a range ending at {@code r} can extend to the left while its aggregate satisfies a predicate,
+     * in a single walk down the tree.
+     * The predicate must be monotone: once it fails for [l, r] it must fail for every smaller l.
+     * Runs in {@code O(log(n))}.
+     *
+     * @param r The right index of the range.
+     * @param predicate The condition tested against {@code query(l, r)}.
+     * @return The smallest {@code l} such that {@code predicate} holds for {@code query(l, r)}, or {@code r + 1} if it fails for [r, r].
+     * @throws IllegalArgumentException If {@code r} is not a valid index (where {@code 0 <= r < n}).
+     */
+    public int minLeft(int r, Predicate<R> predicate) {
+        if (r < 0 || r >= n) throw new IllegalArgumentException("Invalid Index: " + r + " for size " + n);
+        int bad = minLeft(0, 0, n - 1, r, predicate, new Single<>());
+        return bad < 0 ? 0 : bad + 1;
+    }
+
+    /**
+     * Returns the last index in [cl, min(r, cr)] where the predicate fails, or -1 if it holds down to {@code cl}.
+     * The rightmost covered node ends exactly at {@code r}, so it begins the aggregate.
+     */
+    private int minLeft(int i, int cl, int cr, int r, Predicate<R> predicate, Single<R> acc) {
+        if (cl > r) return -1;
+        if (cr <= r) {
+            R combined = cr == r ? tree[i] : accumulator.apply(tree[i], acc.a);
+            if (predicate.test(combined)) {
+                acc.a = combined;
+                return -1;
+            }
+            if (cl == cr) return cl;
+        }
+        int m = (cl + cr) / 2;
+        int bad = minLeft(i * 2 + 2, m + 1, cr, r, predicate, acc);
+        return bad >= 0 ? bad : minLeft(i * 2 + 1, cl, m, r, predicate, acc);
+    }
+}
@@ -17,12 +17,15 @@
 package Struct;
 
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 /**
  * A Trie (or Prefix Tree) data structure implementation that supports efficient
  * insertion and search operations for strings. It optimizes space and time complexities
  * where several strings have common prefixes.
+ * Every node counts the words below it, so words with a given prefix can be counted without walking the subtree.
  *
  * @author Sahasrad Chippa
  * @version 1.0
@@ -30,20 +33,13 @@ import java.util.List;
  */
 public class Trie {
     TrieNode root;
-    int[] map;
-    int offset;
-    int size;
+    Alphabet alphabet;
 
     /**
      * Constructs an empty Trie with default lowercase alphabet settings (a-z).
      */
     public Trie() {
-        map = new int[26];
-        size = 26;
-        for (int i = 0; i < map.length; i++) {
-            map[i] = i;
-        }
-        offset = 'a';
+        alphabet = new Alphabet();
         root = new TrieNode();
     }
 
@@ -54,23 +50,7 @@ public class Trie {
      * @param allowedChars The array of allowed characters to include in the Trie.
      */
     public Trie(char[] allowedChars) {
-        offset = 65535;
-        int max = 0;
-        size = allowedChars.length;
-        for (int i = 0; i < size; i++) {
-            char c = allowedChars[i];
-            if (c < offset) {
-                offset = c;
-            }
-            if (c > max) {
-                max = c;
-            }
-        }
-        map = new int[Math.max(0, max - offset + 1)];
-        Arrays.fill(map, -1);
-        for (int i = 0; i < size; i++) {
-            map[allowedChars[i] - offset] = i;
-        }
+        alphabet = new Alphabet(allowedChars);
         root = new TrieNode();
     }
 
@@ -82,23 +62,7 @@ public class Trie {
      * @param allowedChars The list of allowed characters to include in the Trie.
      */
     public Trie(List<Character> allowedChars) {
-        offset = 65535;
-        int max = 0;
-        size = allowedChars.size();
-        for (int i = 0; i < size; i++) {
-            char c = allowedChars.get(i);
-            if (c < offset) {
-                offset = c;
-            }
-            if (c > max) {
-                max = c;
-            }
-        }
-        map = new int[Math.max(0, max - offset + 1)];
-        Arrays.fill(map, -1);
-        for (int i = 0; i < size; i++) {
-            map[allowedChars.get(i) - offset] = i;
-        }
+        alphabet = new Alphabet(allowedChars);
         root = new TrieNode();
     }
 
@@ -111,25 +75,51 @@ public class Trie {
      * @throws IllegalArgumentException If an invalid character is in the input String.
      */
     public void insert(CharSequence word) {
-        TrieNode curr = root;
         int len = word.length();
         for (int i = 0; i < len; i++) {
-            int j = word.charAt(i) - offset;
-            if (j < 0 || j >= map.length) {
-                throw new IllegalArgumentException("Inserted Invalid character: " + word.charAt(i));
-            }
-            int c = map[j];
-            if (c < 0) {
+            if (alphabet.index(word.charAt(i)) < 0) {
                 throw new IllegalArgumentException("Inserted Invalid character: " + word.charAt(i));
             }
+        }
+        if (contains(word)) return;
+        TrieNode curr = root;
+        curr.count++;
+        for (int i = 0; i < len; i++) {
+            int c = alphabet.index(word.charAt(i));
             if (curr.children[c] == null) {
                 curr.children[c] = new TrieNode();
             }
             curr = curr.children[c];
+            curr.count++;
         }
         curr.end = true;
     }
 
+    /**
+     * Removes a word from the Trie, discarding the nodes no other word uses.
+     * Runs in {@code O(m)} where m is the length of the word.
+     *
+     * @param word The word to remove.
+     * @return true if the word was in the Trie, false otherwise.
+     */
+    public boolean remove(CharSequence word) {
+        if (!contains(word)) return false;
+        TrieNode curr = root;
+        curr.count--;
+        int len = word.length();
+        for (int i = 0; i < len; i++) {
+            int c = alphabet.index(word.charAt(i));
+            TrieNode next = curr.children[c];
+            if (--next.count == 0) {
+                curr.children[c] = null;
+                return true;
+            }
+            curr = next;
+        }
+        curr.end = false;
+        return true;
+    }
+
     /**
      * Checks if a word is in the Trie.
      * Runs in {@code O(m)} where m is the length of the word.
@@ -141,11 +131,7 @@ public class Trie {
         TrieNode curr = root;
         int len = word.length();
         for (int i = 0; i < len; i++) {
-            int j = word.charAt(i) - offset;
-            if (j < 0 || j >= map.length) {
-                return false;
-            }
-            int c = map[j];
+            int c = alphabet.index(word.charAt(i));
             if (c < 0 || curr.children[c] == null) {
                 return false;
             }
@@ -154,12 +140,131 @@ public class Trie {
         return curr.end;
     }
 
+    private TrieNode walk(CharSequence prefix) {
+        TrieNode curr = root;
+        int len = prefix.length();
+        for (int i = 0; i < len && curr != null; i++) {
+            int c = alphabet.index(prefix.charAt(i));
+            curr = c < 0 ? null : curr.children[c];
+        }
+        return curr;
+    }
+
+    /**
+     * Counts the words in the Trie that start with a prefix.
+     * Runs in {@code O(m)} where m is the length of the prefix.
+     *
+     * @param prefix The prefix to count.
+     * @return The number of words starting with the prefix.
+     */
+    public int countPrefix(CharSequence prefix) {
+        TrieNode node = walk(prefix);
+        return node == null ? 0 : node.count;
+    }
+
+    /**
+     * Gets the number of words in the Trie.
+     *
+     * @return The number of words.
+     */
+    public int size() {
+        return root.count;
+    }
+
+    /**
+     * Streams the {@code k} lexicographically smallest words that start with a prefix, in order,
+     * for any alphabet regardless of the order its characters were given in.
+     * Words are found lazily as the iterator advances, so taking the first few completions
+     * does not walk the whole subtree.
+     * Runs in {@code O(m)} to create, where m is the length of the prefix, then {@code O(depth * alphabet size)} per word at most.
+     *
+     * @param prefix The prefix to complete.
+     * @param k The maximum number of words to return.
+     * @return An iterator over the completions.
+     */
+    public Iterator<String> complete(CharSequence prefix, int k) {
+        return new Completions(walk(prefix), prefix, k);
+    }
+
+    /**
+     * A depth first walk over the non-empty subtrees below a node in character order, keeping the current word in a single builder.
+     * {@code nextChild} holds, per level, the position in {@link Alphabet#sorted} of the next child to visit.
+     */
+    private class Completions implements Iterator<String> {
+        private TrieNode[] stack = new TrieNode[16];
+        private int[] nextChild = new int[16];
+        private int depth;
+        private final StringBuilder word;
+        private final int base;
+        private int remaining;
+        private String next;
+
+        Completions(TrieNode start, CharSequence prefix, int k) {
+            word = new StringBuilder(prefix);
+            base = word.length();
+            remaining = k;
+            if (start != null && start.count > 0 && k > 0) {
+                stack[0] = start;
+                depth = 1;
+                if (start.end) next = word.toString();
+                else advance();
+            }
+        }
+
+        /**
+         * Moves to the next node that ends a word, or empties the stack.
+         */
+        private void advance() {
+            next = null;
+            while (depth > 0) {
+                TrieNode node = stack[depth - 1];
+                int[] sorted = alphabet.sorted;
+                int k = nextChild[depth - 1];
+                while (k < sorted.length && node.children[sorted[k]] == null) k++;
+                if (k == sorted.length) {
+                    depth--;
+                    if (depth > 0) word.setLength(base + depth - 1);
+                    continue;
+                }
+                nextChild[depth - 1] = k + 1;
+                int c = sorted[k];
+                TrieNode child = node.children[c];
+                if (depth == stack.length) {
+                    stack = Arrays.copyOf(stack, depth << 1);
+                    nextChild = Arrays.copyOf(nextChild, depth << 1);
+                }
+                stack[depth] = child;
+                nextChild[depth] = 0;
+                depth++;
+                word.append(alphabet.chars[c]);
+                if (child.end) {
+                    next = word.toString();
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null && remaining > 0;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) throw new NoSuchElementException("No more completions");
+            String result = next;
+            if (--remaining > 0) advance();
+            return result;
+        }
+    }
+
     /**
      * A node representing a single node in the Trie.
-     * Manages child nodes and identifies the end of a word.
+     * Manages child nodes, identifies the end of a word and counts the words in its subtree.
      */
     private class TrieNode {
-        TrieNode[] children = new TrieNode[size];
+        TrieNode[] children = new TrieNode[alphabet.size];
         boolean end = false;
+        int count = 0;
     }
 }
\ No newline at end of file
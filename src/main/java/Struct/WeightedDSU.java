@@ -0,0 +1,191 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Struct;
+
+import java.util.Arrays;
+
+/**
+ * A Disjoint Set Union that also maintains a potential for every element, for relations of the form
+ * {@code value(y) - value(x) = w} between elements of the same set. Uniting two elements with a relation that
+ * contradicts the ones already known is detected instead of silently accepted.
+ *
+ * With a modulus, potentials are kept modulo that number, for example 2 to track parity and check that each
+ * component is bipartite, where {@code union(x, y, 1)} means x and y are on different sides.
+ *
+ * Like {@link DSU}, parents and set sizes share a single array with each representative storing the negated size of its set.
+ * The potential of every element relative to its parent is stored alongside it, and is updated as paths are compressed.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+public class WeightedDSU {
+    /**
+     * The parent of each element, or the negated size of its set if the element is a representative.
+     */
+    int[] parents;
+
+    /**
+     * The potential of each element minus the potential of its parent.
+     */
+    long[] potentials;
+    int components;
+    private final long mod;
+    private int[] path = new int[16];
+
+    /**
+     * Initializes the DSU with n elements, each element is its own set initially.
+     *
+     * Runs in {@code O(n)}.
+     * @param n The total number of elements.
+     */
+    public WeightedDSU(int n) {
+        this(n, 0);
+    }
+
+    /**
+     * Initializes the DSU with n elements whose potentials are kept modulo {@code mod}.
+     *
+     * Runs in {@code O(n)}.
+     * @param n The total number of elements.
+     * @param mod The modulus of potentials, or 0 to keep them as plain longs.
+     * @throws IllegalArgumentException If {@code mod} is negative.
+     */
+    public WeightedDSU(int n, long mod) {
+        if (mod < 0) throw new IllegalArgumentException("Invalid Modulus: " + mod);
+        parents = new int[n];
+        Arrays.fill(parents, -1);
+        potentials = new long[n];
+        components = n;
+        this.mod = mod;
+    }
+
+    private long norm(long w) {
+        if (mod == 0) return w;
+        w %= mod;
+        return w < 0 ? w + mod : w;
+    }
+
+    /**
+     * Finds the representative of the set that x is a part of.
+     * Compresses the whole path iteratively, so every visited element points at the representative
+     * and its potential becomes relative to the representative.
+     *
+     * Runs in {@code O(α(n))}, where α is the inverse Ackermann function.
+     * @param x The element to find.
+     * @return The representative item of the set containing 'x'.
+     */
+    public int find(int x) {
+        int k = 0;
+        while (parents[x] >= 0) {
+            if (k == path.length) path = Arrays.copyOf(path, k << 1);
+            path[k++] = x;
+            x = parents[x];
+        }
+        // walk back from the element closest to the root, whose potential is already relative to it
+        for (int j = k - 2; j >= 0; j--) {
+            int y = path[j];
+            potentials[y] = norm(potentials[y] + potentials[parents[y]]);
+            parents[y] = x;
+        }
+        return x;
+    }
+
+    /**
+     * Gets the potential of x relative to the representative of its set.
+     */
+    private long weight(int x) {
+        find(x);
+        return potentials[x];
+    }
+
+    /**
+     * Records that {@code value(y) - value(x) = w}, uniting the sets of 'x' and 'y' if needed.
+     * Uses union by size, ensuring the smaller set points to the representative of the larger set.
+     *
+     * Runs in {@code O(α(n))}, where α is the inverse Ackermann function.
+     * @param x First element.
+     * @param y Second element.
+     * @param w The potential of 'y' minus the potential of 'x'.
+     * @return false if 'x' and 'y' were already in the same set with a different difference, true otherwise.
+     */
+    public boolean union(int x, int y, long w) {
+        int xRoot = find(x);
+        int yRoot = find(y);
+        // the potential of yRoot minus the potential of xRoot
+        long d = norm(potentials[x] + w - potentials[y]);
+        if (xRoot == yRoot) return d == 0;
+        if (parents[xRoot] > parents[yRoot]) {
+            int tmp = xRoot;
+            xRoot = yRoot;
+            yRoot = tmp;
+            d = norm(-d);
+        }
+        parents[xRoot] += parents[yRoot];
+        parents[yRoot] = xRoot;
+        potentials[yRoot] = d;
+        components--;
+        return true;
+    }
+
+    /**
+     * Gets the difference {@code value(y) - value(x)} implied by the relations recorded so far.
+     *
+     * Runs in {@code O(α(n))}, where α is the inverse Ackermann function.
+     * @param x First element.
+     * @param y Second element.
+     * @return The potential of 'y' minus the potential of 'x', modulo the modulus if there is one.
+     * @throws IllegalArgumentException If 'x' and 'y' are not in the same set.
+     */
+    public long diff(int x, int y) {
+        if (find(x) != find(y)) throw new IllegalArgumentException("Not connected: " + x + ", " + y);
+        return norm(weight(y) - weight(x));
+    }
+
+    /**
+     * Checks if the elements 'x' and 'y' are in the same set.
+     *
+     * Runs in {@code O(α(n))}, where α is the inverse Ackermann function.
+     * @param x First element.
+     * @param y Second element.
+     * @return true if 'x' and 'y' are in the same set, false otherwise.
+     */
+    public boolean connected(int x, int y) {
+        return find(x) == find(y);
+    }
+
+    /**
+     * Gets the number of elements in the set that x is a part of.
+     *
+     * Runs in {@code O(α(n))}, where α is the inverse Ackermann function.
+     * @param x The element.
+     * @return The size of the set containing 'x'.
+     */
+    public int size(int x) {
+        return -parents[find(x)];
+    }
+
+    /**
+     * Checks if all elements are part of a single set.
+     *
+     * Runs in {@code O(1)}.
+     * @return true if all elements are in one set, false otherwise.
+     */
+    public boolean fullyConnected() {
+        return components == 1;
+    }
+}
@@ -8,12 +8,37 @@
  *   <li>{@link Struct.BSTNode} - Represents a node in a Binary Search Tree (BST).</li>
  *   <li>{@link Struct.DSU} - Implements a Disjoint Set Union (also known as Union-Find),
  *       useful for keeping track of a partition of a set into disjoint subsets.</li>
+ *   <li>{@link Struct.WeightedDSU} - A Disjoint Set Union with potentials, for difference constraints between
+ *       elements and parity or bipartiteness checks, detecting contradictions on union.</li>
+ *   <li>{@link Struct.ConcurrentDSU} - A lock-free Disjoint Set Union that is safe to use from many threads at once.</li>
+ *   <li>{@link Struct.RollbackDSU} - A Disjoint Set Union whose unions can be undone back to a snapshot,
+ *       used by {@link Struct.DynamicConnectivity} to answer connectivity queries offline while edges are added and removed.</li>
  *   <li>{@link Struct.ListNode} - Defines a node for a doubly linked list, commonly used
  *       in various list operations.</li>
  *   <li>{@link Struct.SegTree} - Implements a Segment Tree, a data structure
  *       for efficient query and update operations on array intervals.</li>
+ *   <li>{@link Struct.IntSegTree}, {@link Struct.LongSegTree}, {@link Struct.DoubleSegTree} - Segment Trees
+ *       over primitive arrays that combine values with primitive operators, without boxing.</li>
+ *   <li>{@link Struct.IterSegTree} - A non-recursive Segment Tree of size {@code 2n} that updates and queries
+ *       bottom-up, for heavy point-update/range-query workloads.</li>
+ *   <li>{@link Struct.LazySegTree} - A Segment Tree with lazy propagation, supporting range updates and range
+ *       queries in {@code O(log(n))}, with {@link Struct.LongAddSumSegTree} (range-add/range-sum) and
+ *       {@link Struct.LongAssignMinSegTree} (range-assign/range-min) specializations over long arrays.</li>
+ *   <li>{@link Struct.PersistentSegTree} - A persistent Segment Tree that keeps every version of the array,
+ *       for range sums as of any update and k-th smallest queries on subarrays.</li>
+ *   <li>{@link Struct.DynamicSegTree} - A sparse Segment Tree over long coordinates that allocates nodes on
+ *       first touch, for point updates and range queries over huge ranges.</li>
  *   <li>{@link Struct.Trie} - Implements a Trie (or prefix tree), which is an ordered tree
  *       data structure used for efficient String lookup</li>
+ *   <li>{@link Struct.ArrayTrie} - A Trie stored in flat primitive arrays rather than node objects,
+ *       for large dictionaries.</li>
+ *   <li>{@link Struct.AhoCorasick} - An Aho-Corasick automaton that finds all occurrences of many patterns
+ *       in a text in one pass.</li>
+ *   <li>{@link Struct.BitTrie} - A binary Trie over the bits of int or long keys, for maximum xor and
+ *       xor-below-k counting queries.</li>
+ *   <li>{@link Struct.RadixTrie} - A compressed Trie that merges chains of single children into labelled edges.</li>
+ *   <li>{@link Struct.DAWG} - A minimal word graph built from sorted words that shares common suffixes
+ *       as well as prefixes, for compact static dictionaries.</li>
  *   <li>{@link Struct.Single} - Encapsulates a single value within an object, sometimes
  *       useful for passing mutable values to methods or storing in collections.</li>
  *   <li>{@link Struct.Pair} - Generic class for a tuple of two items, often used to store
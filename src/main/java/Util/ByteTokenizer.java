@@ -0,0 +1,343 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A tokenizer that reads raw bytes from an {@link InputStream} into a single reusable buffer
+ * and parses numbers directly from those bytes, without building intermediate {@link String} objects.
+ * Backs the byte mode of {@link In}.
+ *
+ * Only ASCII delimiters are supported. Line terminators ({@code '\n'} and {@code '\r'}) always separate tokens,
+ * matching the line-by-line tokenizing of {@link In}'s default mode.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+class ByteTokenizer {
+    static final int BUFFER_SIZE = 1 << 16;
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final InputStream in;
+    private byte[] token = new byte[64];
+
+    /**
+     * Lookup table of delimiter bytes, indexed by unsigned byte value.
+     */
+    final boolean[] delims = new boolean[256];
+
+    /**
+     * Whether the last consumed byte ended a line, used to emulate line-based {@link #nextLine()}.
+     */
+    boolean lineStart = true;
+
+    /**
+     * The buffer currently being parsed, valid in the range {@code [ptr, len)}.
+     */
+    byte[] buf;
+    int len;
+    int ptr;
+
+    ByteTokenizer(InputStream in, String delim) {
+        this.in = in;
+        this.buf = new byte[BUFFER_SIZE];
+        setDelimiter(delim);
+    }
+
+    /**
+     * Replaces the set of delimiter bytes. Non-ASCII delimiter characters are ignored.
+     * @param delim The string containing delimiter characters.
+     */
+    void setDelimiter(String delim) {
+        Arrays.fill(delims, false);
+        for (int i = 0; i < delim.length(); i++) {
+            char c = delim.charAt(i);
+            if (c < 128) delims[c] = true;
+        }
+        delims['\n'] = true;
+        delims['\r'] = true;
+    }
+
+    /**
+     * Refills {@link #buf} with the next block of input and resets {@link #ptr} and {@link #len}.
+     * @return true if at least one byte is available, false at the end of input.
+     * @throws IOException if the underlying source fails.
+     */
+    boolean fill() throws IOException {
+        ptr = 0;
+        do {
+            len = in.read(buf, 0, buf.length);
+        } while (len == 0);
+        if (len > 0) return true;
+        len = 0;
+        return false;
+    }
+
+    /**
+     * Gets the input this tokenizer has not consumed yet, so another tokenizer can continue from it.
+     * @param rest The stream this tokenizer reads its next block from.
+     * @return The unread part of the buffer followed by {@code rest}.
+     */
+    InputStream unread(InputStream rest) {
+        if (ptr == len) return rest;
+        return new SequenceInputStream(new ByteArrayInputStream(Arrays.copyOfRange(buf, ptr, len)), rest);
+    }
+
+    private int read() {
+        if (ptr == len) {
+            try {
+                if (!fill()) return -1;
+            } catch (IOException e) {
+                throw new NoSuchElementException(e.getMessage());
+            }
+        }
+        return buf[ptr++] & 0xff;
+    }
+
+    private int skip() {
+        int b;
+        while ((b = read()) >= 0 && delims[b]) {
+            if (b == '\n') lineStart = true;
+        }
+        return b;
+    }
+
+    private void put(int i, int b) {
+        if (i == token.length) token = Arrays.copyOf(token, i << 1);
+        token[i] = (byte) b;
+    }
+
+    /**
+     * Reads the next token into the scratch buffer.
+     * @return The length of the token.
+     * @throws NoSuchElementException if no more tokens are available.
+     */
+    private int readToken() {
+        int b = skip();
+        if (b < 0) throw new NoSuchElementException("No more tokens");
+        int n = 0;
+        while (b >= 0 && !delims[b]) {
+            put(n++, b);
+            b = read();
+        }
+        lineStart = b == '\n';
+        return n;
+    }
+
+    /**
+     * Skips delimiters up to the next token without consuming it.
+     * @return true if another token is available, false at the end of input.
+     */
+    boolean hasNext() {
+        while (true) {
+            if (ptr == len) {
+                try {
+                    if (!fill()) return false;
+                } catch (IOException e) {
+                    throw new NoSuchElementException(e.getMessage());
+                }
+            }
+            int b = buf[ptr] & 0xff;
+            if (!delims[b]) return true;
+            if (b == '\n') lineStart = true;
+            ptr++;
+        }
+    }
+
+    /**
+     * Reads the next token as a String.
+     * @return The next token.
+     */
+    String next() {
+        return new String(token, 0, readToken());
+    }
+
+    /**
+     * Parses the next token as a signed decimal integer no smaller than {@code limit}
+     * and no larger than {@code -limit - 1}, without creating a String.
+     */
+    private long nextSigned(long limit) {
+        int b = skip();
+        if (b < 0) throw new NoSuchElementException("No more tokens");
+        boolean neg = false;
+        if (b == '-') {
+            neg = true;
+            b = read();
+        } else if (b == '+') {
+            b = read();
+        }
+        long min = neg ? limit : limit + 1;
+        long multmin = min / 10;
+        long result = 0;
+        int digits = 0;
+        while (b >= 0 && !delims[b]) {
+            int d = b - '0';
+            if (d < 0 || d > 9 || result < multmin) throw new NumberFormatException("Invalid integer token");
+            result *= 10;
+            if (result < min + d) throw new NumberFormatException("Integer token out of range");
+            result -= d;
+            digits++;
+            b = read();
+        }
+        if (digits == 0) throw new NumberFormatException("Invalid integer token");
+        lineStart = b == '\n';
+        return neg ? result : -result;
+    }
+
+    /**
+     * Reads the next token as an int.
+     * @return The parsed int.
+     * @throws NumberFormatException if the token is not a valid int.
+     */
+    int nextInt() {
+        return (int) nextSigned(Integer.MIN_VALUE);
+    }
+
+    /**
+     * Reads the next token as a long.
+     * @return The parsed long.
+     * @throws NumberFormatException if the token is not a valid long.
+     */
+    long nextLong() {
+        return nextSigned(Long.MIN_VALUE);
+    }
+
+    /**
+     * Reads the next token as a double, see {@link #parseDouble(byte[], int, int)}.
+     * @return The parsed double.
+     */
+    double nextDouble() {
+        return parseDouble(token, 0, readToken());
+    }
+
+    /**
+     * Parses a token of ASCII bytes as a signed decimal integer no smaller than {@code limit}
+     * and no larger than {@code -limit - 1}.
+     * @param t The bytes containing the token.
+     * @param off The index of the first byte of the token.
+     * @param end The index just past the last byte of the token.
+     * @param limit The smallest allowed value, {@link Integer#MIN_VALUE} or {@link Long#MIN_VALUE}.
+     * @return The parsed value.
+     * @throws NumberFormatException if the token is not a valid integer in range.
+     */
+    static long parseSigned(byte[] t, int off, int end, long limit) {
+        int i = off;
+        boolean neg = false;
+        if (i < end && (t[i] == '-' || t[i] == '+')) {
+            neg = t[i] == '-';
+            i++;
+        }
+        if (i == end) throw new NumberFormatException("Invalid integer token");
+        long min = neg ? limit : limit + 1;
+        long multmin = min / 10;
+        long result = 0;
+        for (; i < end; i++) {
+            int d = t[i] - '0';
+            if (d < 0 || d > 9 || result < multmin) throw new NumberFormatException("Invalid integer token");
+            result *= 10;
+            if (result < min + d) throw new NumberFormatException("Integer token out of range");
+            result -= d;
+        }
+        return neg ? result : -result;
+    }
+
+    /**
+     * Parses a token of ASCII bytes as a double. Plain decimals with at most 18 significant digits and
+     * 22 fractional digits are computed exactly from the bytes; anything else
+     * (exponents, longer mantissas, NaN, Infinity) falls back to {@link Double#parseDouble}.
+     * @param t The bytes containing the token.
+     * @param off The index of the first byte of the token.
+     * @param end The index just past the last byte of the token.
+     * @return The parsed double.
+     */
+    static double parseDouble(byte[] t, int off, int end) {
+        int i = off;
+        boolean neg = false;
+        if (i < end && (t[i] == '-' || t[i] == '+')) {
+            neg = t[i] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0, fraction = -1;
+        for (; i < end; i++) {
+            int d = t[i] - '0';
+            if (d >= 0 && d <= 9) {
+                mantissa = mantissa * 10 + d;
+                digits++;
+                if (fraction >= 0) fraction++;
+            } else if (t[i] == '.' && fraction < 0) {
+                fraction = 0;
+            } else {
+                break;
+            }
+        }
+        if (i < end || digits == 0 || digits > 18 || fraction > 22 || mantissa >= 1L << 53) {
+            return Double.parseDouble(new String(t, off, end - off));
+        }
+        double result = fraction > 0 ? mantissa / POW10[fraction] : mantissa;
+        return neg ? -result : result;
+    }
+
+    /**
+     * Reads the rest of the current line, mirroring the default mode of {@link In}:
+     * if the current line has no more tokens, the whole next line is returned,
+     * otherwise the remaining tokens are joined by single spaces.
+     * @return The line, or null at the end of input.
+     */
+    String nextLine() {
+        if (!lineStart) {
+            StringBuilder remaining = new StringBuilder();
+            int b = read();
+            while (b >= 0 && b != '\n') {
+                if (delims[b]) {
+                    b = read();
+                    continue;
+                }
+                if (remaining.length() > 0) remaining.append(' ');
+                int n = 0;
+                while (b >= 0 && !delims[b]) {
+                    put(n++, b);
+                    b = read();
+                }
+                remaining.append(new String(token, 0, n));
+            }
+            lineStart = true;
+            if (remaining.length() > 0 || b < 0) {
+                return remaining.length() > 0 ? remaining.toString() : null;
+            }
+        }
+        int b = read();
+        if (b < 0) return null;
+        int n = 0;
+        while (b >= 0 && b != '\n') {
+            put(n++, b);
+            b = read();
+        }
+        if (n > 0 && token[n - 1] == '\r') n--;
+        return new String(token, 0, n);
+    }
+}
@@ -16,12 +16,15 @@
 
 package Util;
 
-import java.io.*;
+import java.io.InputStream;
 import java.math.BigInteger;
-import java.util.ArrayList;
+import java.nio.channels.FileChannel;
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.StringTokenizer;
+import java.util.PrimitiveIterator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 /**
  * This class provides methods for input operations from various sources such as system input, files, and streams,
@@ -29,31 +32,119 @@ import java.util.StringTokenizer;
  *
  * Can use a custom delimiter for tokenizing input strings, but uses whitespace by default
  *
+ * For large inputs, {@link #setByteMode(boolean)} switches to a byte-level tokenizer that reads raw bytes
+ * into a reusable buffer and parses numbers without creating intermediate Strings.
+ * In byte mode, file input is memory-mapped rather than read through a stream.
+ * {@link #setPrefetch(boolean)} reads input ahead on a background thread while the current block is parsed.
+ * {@link #setParallel(boolean)} parses large numeric arrays from memory-mapped files on all cores.
+ *
+ * All methods delegate to a default {@link InputReader}, which can be replaced with {@link #setReader(InputReader)}.
+ * Use separate {@link InputReader} instances to process several inputs at once.
+ *
  * @author Sahasrad Chippa
  * @version 1.0
  * @since 1.0
  */
 public class In {
-    private static BufferedReader br = new BufferedReader(new InputStreamReader(System.in));
-    private static StringTokenizer curr;
-    private static String delim = " \t\n\r\f";
+    private static InputReader reader = new InputReader(System.in);
+
+    /**
+     * Retrieves the current reader object.
+     * @return The current {@link InputReader} instance that input is read from.
+     */
+    public static InputReader getReader() {
+        return reader;
+    }
+
+    /**
+     * Sets the {@link InputReader} that all methods delegate to.
+     * @param reader The new reader.
+     */
+    public static void setReader(InputReader reader) {
+        In.reader = reader;
+    }
 
     /**
      * Gets the current delimiter string used to parse tokens.
      * @return The string representing current delimiters.
      */
     public static String getDelimiter() {
-        return delim;
+        return reader.getDelimiter();
     }
 
     /**
      * Sets a new delimiter for tokenizing input strings.
+     *
+     * In byte mode only ASCII delimiters are supported, and the new delimiter applies immediately.
      * @param delim The string containing delimiter characters.
      * @return True if there are no more tokens to process from current input line, false otherwise.
+     *         Always true in byte mode.
      */
     public static boolean setDelimiter(String delim) {
-        In.delim = delim;
-        return curr == null;
+        return reader.setDelimiter(delim);
+    }
+
+    /**
+     * Checks whether input is parsed by the byte-level tokenizer.
+     * @return True if byte mode is enabled, false otherwise.
+     */
+    public static boolean isByteMode() {
+        return reader.isByteMode();
+    }
+
+    /**
+     * Switches between the default line-based tokenizer and the byte-level tokenizer.
+     * The byte-level tokenizer reads raw bytes into a reusable buffer and parses ints, longs and doubles
+     * directly from them, avoiding a String allocation per token.
+     *
+     * Should be called before reading from the current source if it was read in the default mode, since input
+     * already buffered by the line-based tokenizer is discarded. Input read ahead in byte mode is kept.
+     * The mode is kept for later calls to {@link #setInput(InputStream)} and {@link #setFileInput(String)}.
+     * @param byteMode True to enable byte mode, false to return to the default mode.
+     */
+    public static void setByteMode(boolean byteMode) {
+        reader.setByteMode(byteMode);
+    }
+
+    /**
+     * Checks whether input is read ahead on a background thread.
+     * @return True if prefetch mode is enabled, false otherwise.
+     */
+    public static boolean isPrefetch() {
+        return reader.isPrefetch();
+    }
+
+    /**
+     * Enables or disables reading ahead on a dedicated background thread. While enabled, the next block of input
+     * is read from the source while the current one is parsed, so latency on slow pipes and network-mounted files
+     * overlaps with parsing and computation. Memory-mapped files in byte mode are never prefetched,
+     * since the OS already reads ahead for them.
+     *
+     * Like {@link #setByteMode(boolean)}, this should be called before reading from the current source,
+     * and the mode is kept for later calls to {@link #setInput(InputStream)} and {@link #setFileInput(String)}.
+     * @param prefetch True to enable prefetch mode, false to read on the calling thread.
+     */
+    public static void setPrefetch(boolean prefetch) {
+        reader.setPrefetch(prefetch);
+    }
+
+    /**
+     * Checks whether large numeric arrays are parsed in parallel.
+     * @return True if parallel mode is enabled, false otherwise.
+     */
+    public static boolean isParallel() {
+        return reader.isParallel();
+    }
+
+    /**
+     * Enables or disables parsing large numeric arrays in parallel. While enabled, reading at least
+     * 65536 ints, longs or doubles at once from a memory-mapped file (file input in byte mode) splits the file
+     * into chunks at token boundaries, parses the chunks on the common {@link java.util.concurrent.ForkJoinPool},
+     * and stitches the results in order. Other sources and smaller reads are parsed sequentially.
+     * @param parallel True to enable parallel mode, false to parse on the calling thread only.
+     */
+    public static void setParallel(boolean parallel) {
+        reader.setParallel(parallel);
     }
 
     /**
@@ -61,20 +152,27 @@ public class In {
      * @param in The input stream to read from.
      */
     public static void setInput(InputStream in) {
-        br = new BufferedReader(new InputStreamReader(in));
+        reader.setInput(in);
     }
 
     /**
      * Sets the input source to a file via its filename.
+     *
+     * In byte mode the file is memory-mapped with {@link FileChannel#map}, in windows of up to 1 GiB
+     * for files beyond the 2 GiB limit of a single mapping, and tokenized straight out of the page cache.
      * @param fileName The name of the file to read from.
      * @throws IllegalArgumentException if a file with {@code fileName} cannot be found.
      */
     public static void setFileInput(String fileName) {
-        try {
-            br = new BufferedReader(new FileReader(fileName));
-        } catch (FileNotFoundException e) {
-            throw new IllegalArgumentException(e);
-        }
+        reader.setFileInput(fileName);
+    }
+
+    /**
+     * Checks whether another token is available, skipping blank lines without consuming the token.
+     * @return True if another token can be read, false at the end of input.
+     */
+    public static boolean hasNext() {
+        return reader.hasNext();
     }
 
     /**
@@ -83,18 +181,7 @@ public class In {
      * @throws NoSuchElementException if no more tokens are available or an error occurs.
      */
     public static String next() {
-        if (curr == null || !curr.hasMoreTokens()) {
-            try {
-                curr = new StringTokenizer(br.readLine(), delim);
-            } catch (IOException | NullPointerException e) {
-                throw new NoSuchElementException(e.getMessage());
-            }
-        }
-        String result = curr.nextToken();
-        if (!curr.hasMoreTokens()) {
-            curr = null;
-        }
-        return result;
+        return reader.next();
     }
 
     /**
@@ -102,7 +189,7 @@ public class In {
      * @return The parsed int.
      */
     public static int nextInt() {
-        return Integer.parseInt(next());
+        return reader.nextInt();
     }
 
     /**
@@ -110,7 +197,7 @@ public class In {
      * @return The parsed long.
      */
     public static long nextLong() {
-        return Long.parseLong(next());
+        return reader.nextLong();
     }
 
     /**
@@ -118,7 +205,7 @@ public class In {
      * @return The parsed double.
      */
     public static double nextDouble() {
-        return Double.parseDouble(next());
+        return reader.nextDouble();
     }
 
     /**
@@ -126,7 +213,7 @@ public class In {
      * @return The parsed {@link BigInteger}.
      */
     public static BigInteger nextBigInteger() {
-        return new BigInteger(next());
+        return reader.nextBigInteger();
     }
 
     /**
@@ -134,7 +221,7 @@ public class In {
      * @return The parsed boolean.
      */
     public static boolean nextBoolean() {
-        return Boolean.parseBoolean(next());
+        return reader.nextBoolean();
     }
 
     /**
@@ -143,13 +230,7 @@ public class In {
      * @return An array of booleans representing the binary string.
      */
     public static boolean[] nextBinaryString(char truth) {
-        String s = next();
-        int n = s.length();
-        boolean[] result = new boolean[n];
-        for (int i = 0; i < n; i++) {
-            result[i] = s.charAt(i) == truth;
-        }
-        return result;
+        return reader.nextBinaryString(truth);
     }
 
     /**
@@ -157,20 +238,7 @@ public class In {
      * @return The complete line or remaining tokens fused into one line.
      */
     public static String nextLine() {
-        if (curr == null || !curr.hasMoreTokens()) {
-            try {
-                return br.readLine();
-            } catch (IOException e) {
-                return null;
-            }
-        }
-        StringBuilder remaining = new StringBuilder();
-        remaining.append(curr.nextToken());
-        while (curr.hasMoreTokens()) {
-            remaining.append(' ').append(curr.nextToken());
-        }
-        curr = null;
-        return remaining.toString();
+        return reader.nextLine();
     }
 
     // Methods for reading arrays and lists of various types follow similar structure
@@ -182,11 +250,7 @@ public class In {
      * @return A string array containing the read strings.
      */
     public static String[] nextStringArray(int n) {
-        String[] arr = new String[n];
-        for (int i = 0; i < n; i++) {
-            arr[i] = next();
-        }
-        return arr;
+        return reader.nextStringArray(n);
     }
 
     /**
@@ -195,11 +259,7 @@ public class In {
      * @return An integer array containing the read integers.
      */
     public static int[] nextIntArray(int n) {
-        int[] arr = new int[n];
-        for (int i = 0; i < n; i++) {
-            arr[i] = nextInt();
-        }
-        return arr;
+        return reader.nextIntArray(n);
     }
 
     /**
@@ -208,11 +268,7 @@ public class In {
      * @return A long integer array containing the read long integers.
      */
     public static long[] nextLongArray(int n) {
-        long[] arr = new long[n];
-        for (int i = 0; i < n; i++) {
-            arr[i] = nextLong();
-        }
-        return arr;
+        return reader.nextLongArray(n);
     }
 
     /**
@@ -221,11 +277,70 @@ public class In {
      * @return A double array containing the read values.
      */
     public static double[] nextDoubleArray(int n) {
-        double[] arr = new double[n];
-        for (int i = 0; i < n; i++) {
-            arr[i] = nextDouble();
-        }
-        return arr;
+        return reader.nextDoubleArray(n);
+    }
+
+    /**
+     * Reads integers into an existing array, so buffers can be reused across test cases without allocating.
+     * @param arr The array to fill.
+     * @param off The index of the first element to fill.
+     * @param len The number of integers to read.
+     */
+    public static void nextIntArray(int[] arr, int off, int len) {
+        reader.nextIntArray(arr, off, len);
+    }
+
+    /**
+     * Reads a grid of integers row by row into an existing 2D array, so buffers can be reused across test cases
+     * without allocating.
+     * @param grid The grid to fill, with at least {@code rows} rows of at least {@code cols} elements.
+     * @param rows The number of rows to read.
+     * @param cols The number of integers to read per row.
+     */
+    public static void nextIntGrid(int[][] grid, int rows, int cols) {
+        reader.nextIntGrid(grid, rows, cols);
+    }
+
+    /**
+     * Reads long integers into an existing array, so buffers can be reused across test cases without allocating.
+     * @param arr The array to fill.
+     * @param off The index of the first element to fill.
+     * @param len The number of long integers to read.
+     */
+    public static void nextLongArray(long[] arr, int off, int len) {
+        reader.nextLongArray(arr, off, len);
+    }
+
+    /**
+     * Reads a grid of long integers row by row into an existing 2D array, so buffers can be reused across test cases
+     * without allocating.
+     * @param grid The grid to fill, with at least {@code rows} rows of at least {@code cols} elements.
+     * @param rows The number of rows to read.
+     * @param cols The number of long integers to read per row.
+     */
+    public static void nextLongGrid(long[][] grid, int rows, int cols) {
+        reader.nextLongGrid(grid, rows, cols);
+    }
+
+    /**
+     * Reads double values into an existing array, so buffers can be reused across test cases without allocating.
+     * @param arr The array to fill.
+     * @param off The index of the first element to fill.
+     * @param len The number of double values to read.
+     */
+    public static void nextDoubleArray(double[] arr, int off, int len) {
+        reader.nextDoubleArray(arr, off, len);
+    }
+
+    /**
+     * Reads a grid of double values row by row into an existing 2D array, so buffers can be reused across test cases
+     * without allocating.
+     * @param grid The grid to fill, with at least {@code rows} rows of at least {@code cols} elements.
+     * @param rows The number of rows to read.
+     * @param cols The number of double values to read per row.
+     */
+    public static void nextDoubleGrid(double[][] grid, int rows, int cols) {
+        reader.nextDoubleGrid(grid, rows, cols);
     }
 
     /**
@@ -234,11 +349,7 @@ public class In {
      * @return An array of BigInteger values.
      */
     public static BigInteger[] nextBigIntegerArray(int n) {
-        BigInteger[] arr = new BigInteger[n];
-        for (int i = 0; i < n; i++) {
-            arr[i] = nextBigInteger();
-        }
-        return arr;
+        return reader.nextBigIntegerArray(n);
     }
 
     /**
@@ -247,11 +358,124 @@ public class In {
      * @return A boolean array containing the read values.
      */
     public static boolean[] nextBooleanArray(int n) {
-        boolean[] arr = new boolean[n];
-        for (int i = 0; i < n; i++) {
-            arr[i] = nextBoolean();
-        }
-        return arr;
+        return reader.nextBooleanArray(n);
+    }
+
+    /**
+     * Returns an iterator that lazily parses the next {@code n} integers, one token per call.
+     * @param n The number of integers to iterate over.
+     * @return A primitive iterator over the integers.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    public static PrimitiveIterator.OfInt intIterator(int n) {
+        return reader.intIterator(n);
+    }
+
+    /**
+     * Returns an iterator that lazily parses integers until the end of input, one token per call.
+     * @return A primitive iterator over the remaining integers.
+     */
+    public static PrimitiveIterator.OfInt intIterator() {
+        return reader.intIterator();
+    }
+
+    /**
+     * Returns a sequential stream that lazily parses the next {@code n} integers as it is consumed,
+     * so huge inputs can be aggregated in a single pass with constant memory.
+     * Tokens not consumed by a short-circuiting operation are left in the input.
+     * @param n The number of integers in the stream.
+     * @return A {@link IntStream} over the integers.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    public static IntStream ints(int n) {
+        return reader.ints(n);
+    }
+
+    /**
+     * Returns a sequential stream that lazily parses integers until the end of input as it is consumed,
+     * so huge inputs can be aggregated in a single pass with constant memory.
+     * @return A {@link IntStream} over the remaining integers.
+     */
+    public static IntStream ints() {
+        return reader.ints();
+    }
+
+    /**
+     * Returns an iterator that lazily parses the next {@code n} long integers, one token per call.
+     * @param n The number of long integers to iterate over.
+     * @return A primitive iterator over the long integers.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    public static PrimitiveIterator.OfLong longIterator(int n) {
+        return reader.longIterator(n);
+    }
+
+    /**
+     * Returns an iterator that lazily parses long integers until the end of input, one token per call.
+     * @return A primitive iterator over the remaining long integers.
+     */
+    public static PrimitiveIterator.OfLong longIterator() {
+        return reader.longIterator();
+    }
+
+    /**
+     * Returns a sequential stream that lazily parses the next {@code n} long integers as it is consumed,
+     * so huge inputs can be aggregated in a single pass with constant memory.
+     * Tokens not consumed by a short-circuiting operation are left in the input.
+     * @param n The number of long integers in the stream.
+     * @return A {@link LongStream} over the long integers.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    public static LongStream longs(int n) {
+        return reader.longs(n);
+    }
+
+    /**
+     * Returns a sequential stream that lazily parses long integers until the end of input as it is consumed,
+     * so huge inputs can be aggregated in a single pass with constant memory.
+     * @return A {@link LongStream} over the remaining long integers.
+     */
+    public static LongStream longs() {
+        return reader.longs();
+    }
+
+    /**
+     * Returns an iterator that lazily parses the next {@code n} double values, one token per call.
+     * @param n The number of double values to iterate over.
+     * @return A primitive iterator over the double values.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    public static PrimitiveIterator.OfDouble doubleIterator(int n) {
+        return reader.doubleIterator(n);
+    }
+
+    /**
+     * Returns an iterator that lazily parses double values until the end of input, one token per call.
+     * @return A primitive iterator over the remaining double values.
+     */
+    public static PrimitiveIterator.OfDouble doubleIterator() {
+        return reader.doubleIterator();
+    }
+
+    /**
+     * Returns a sequential stream that lazily parses the next {@code n} double values as it is consumed,
+     * so huge inputs can be aggregated in a single pass with constant memory.
+     * Tokens not consumed by a short-circuiting operation are left in the input.
+     * @param n The number of double values in the stream.
+     * @return A {@link DoubleStream} over the double values.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    public static DoubleStream doubles(int n) {
+        return reader.doubles(n);
+    }
+
+    /**
+     * Returns a sequential stream that lazily parses double values until the end of input as it is consumed,
+     * so huge inputs can be aggregated in a single pass with constant memory.
+     * @return A {@link DoubleStream} over the remaining double values.
+     */
+    public static DoubleStream doubles() {
+        return reader.doubles();
     }
 
     /**
@@ -260,11 +484,7 @@ public class In {
      * @return A list containing the read strings.
      */
     public static List<String> nextStringList(int n) {
-        List<String> list = new ArrayList<>(n);
-        for (int i = 0; i < n; i++) {
-            list.add(next());
-        }
-        return list;
+        return reader.nextStringList(n);
     }
 
     /**
@@ -273,11 +493,7 @@ public class In {
      * @return A list containing the read integers.
      */
     public static List<Integer> nextIntList(int n) {
-        List<Integer> list = new ArrayList<>(n);
-        for (int i = 0; i < n; i++) {
-            list.add(nextInt());
-        }
-        return list;
+        return reader.nextIntList(n);
     }
 
     /**
@@ -286,11 +502,7 @@ public class In {
      * @return A list containing the read long integers.
      */
     public static List<Long> nextLongList(int n) {
-        List<Long> list = new ArrayList<>(n);
-        for (int i = 0; i < n; i++) {
-            list.add(nextLong());
-        }
-        return list;
+        return reader.nextLongList(n);
     }
 
     /**
@@ -299,11 +511,7 @@ public class In {
      * @return A list containing the read double values.
      */
     public static List<Double> nextDoubleList(int n) {
-        List<Double> list = new ArrayList<>(n);
-        for (int i = 0; i < n; i++) {
-            list.add(nextDouble());
-        }
-        return list;
+        return reader.nextDoubleList(n);
     }
 
     /**
@@ -312,11 +520,7 @@ public class In {
      * @return A list containing the read BigInteger values.
      */
     public static List<BigInteger> nextBigIntegerList(int n) {
-        List<BigInteger> list = new ArrayList<>(n);
-        for (int i = 0; i < n; i++) {
-            list.add(nextBigInteger());
-        }
-        return list;
+        return reader.nextBigIntegerList(n);
     }
 
     /**
@@ -325,10 +529,6 @@ public class In {
      * @return A list containing the read boolean values.
      */
     public static List<Boolean> nextBooleanList(int n) {
-        List<Boolean> list = new ArrayList<>(n);
-        for (int i = 0; i < n; i++) {
-            list.add(nextBoolean());
-        }
-        return list;
+        return reader.nextBooleanList(n);
     }
 }
\ No newline at end of file
@@ -0,0 +1,821 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Util;
+
+import java.io.*;
+import java.math.BigInteger;
+import java.nio.channels.FileChannel;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A reader that tokenizes and parses input from a single source. Each instance keeps its own source,
+ * buffer and tokenizer state, so separate instances can read independent inputs concurrently,
+ * one thread per instance. Instances are not synchronized and should be confined to a single thread.
+ *
+ * Provides the same methods as {@link In}, which delegates to a default instance reading from {@link System#in}.
+ *
+ * For large inputs, {@link #setByteMode(boolean)} switches to a byte-level tokenizer that reads raw bytes
+ * into a reusable buffer and parses numbers without creating intermediate Strings.
+ * In byte mode, file input is memory-mapped rather than read through a stream.
+ * {@link #setPrefetch(boolean)} reads input ahead on a background thread while the current block is parsed.
+ * {@link #setParallel(boolean)} parses large numeric arrays from memory-mapped files on all cores.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+public class InputReader {
+    private InputStream source;
+    private BufferedReader br;
+    private StringTokenizer curr;
+    private ByteTokenizer bytes;
+    private PrefetchInputStream prefetcher;
+    private boolean prefetch;
+    private boolean parallel;
+    private String delim = " \t\n\r\f";
+
+    /**
+     * Constructs a reader over an {@link InputStream} using the default line-based tokenizer.
+     * @param in The input stream to read from.
+     */
+    public InputReader(InputStream in) {
+        this(in, false);
+    }
+
+    /**
+     * Constructs a reader over an {@link InputStream}.
+     * @param in The input stream to read from.
+     * @param byteMode True to use the byte-level tokenizer, see {@link #setByteMode(boolean)}.
+     */
+    public InputReader(InputStream in, boolean byteMode) {
+        source = in;
+        open(byteMode);
+    }
+
+    /**
+     * Gets the current delimiter string used to parse tokens.
+     * @return The string representing current delimiters.
+     */
+    public String getDelimiter() {
+        return delim;
+    }
+
+    /**
+     * Sets a new delimiter for tokenizing input strings.
+     *
+     * In byte mode only ASCII delimiters are supported, and the new delimiter applies immediately.
+     * @param delim The string containing delimiter characters.
+     * @return True if there are no more tokens to process from current input line, false otherwise.
+     *         Always true in byte mode.
+     */
+    public boolean setDelimiter(String delim) {
+        this.delim = delim;
+        if (bytes != null) {
+            bytes.setDelimiter(delim);
+            return true;
+        }
+        return curr == null;
+    }
+
+    /**
+     * Checks whether input is parsed by the byte-level tokenizer.
+     * @return True if byte mode is enabled, false otherwise.
+     */
+    public boolean isByteMode() {
+        return bytes != null;
+    }
+
+    /**
+     * Switches between the default line-based tokenizer and the byte-level tokenizer.
+     * The byte-level tokenizer reads raw bytes into a reusable buffer and parses ints, longs and doubles
+     * directly from them, avoiding a String allocation per token.
+     *
+     * Should be called before reading from the current source if it was read in the default mode, since input
+     * already buffered by the line-based tokenizer is discarded. Input read ahead in byte mode is kept.
+     * The mode is kept for later calls to {@link #setInput(InputStream)} and {@link #setFileInput(String)}.
+     * @param byteMode True to enable byte mode, false to return to the default mode.
+     */
+    public void setByteMode(boolean byteMode) {
+        if (byteMode == isByteMode()) return;
+        curr = null;
+        open(byteMode);
+    }
+
+    /**
+     * Checks whether input is read ahead on a background thread.
+     * @return True if prefetch mode is enabled, false otherwise.
+     */
+    public boolean isPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * Enables or disables reading ahead on a dedicated background thread. While enabled, the next block of input
+     * is read from the source while the current one is parsed, so latency on slow pipes and network-mounted files
+     * overlaps with parsing and computation. Memory-mapped files in byte mode are never prefetched,
+     * since the OS already reads ahead for them.
+     *
+     * Like {@link #setByteMode(boolean)}, this should be called before reading from the current source,
+     * and the mode is kept for later calls to {@link #setInput(InputStream)} and {@link #setFileInput(String)}.
+     * @param prefetch True to enable prefetch mode, false to read on the calling thread.
+     */
+    public void setPrefetch(boolean prefetch) {
+        if (prefetch == this.prefetch) return;
+        this.prefetch = prefetch;
+        curr = null;
+        open(isByteMode());
+    }
+
+    /**
+     * Checks whether large numeric arrays are parsed in parallel.
+     * @return True if parallel mode is enabled, false otherwise.
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Enables or disables parsing large numeric arrays in parallel. While enabled, reading at least
+     * 65536 ints, longs or doubles at once from a memory-mapped file (file input in byte mode) splits the file
+     * into chunks at token boundaries, parses the chunks on the common {@link java.util.concurrent.ForkJoinPool},
+     * and stitches the results in order. Other sources, smaller reads, and a common pool with a parallelism of 1
+     * are parsed sequentially, since splitting costs an extra counting pass over the chunks.
+     * @param parallel True to enable parallel mode, false to parse on the calling thread only.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Checks whether reading {@code len} numbers at once should go through the {@link ParallelParser}.
+     */
+    private boolean parallel(int len) {
+        return parallel && len >= ParallelParser.THRESHOLD && bytes instanceof MappedByteTokenizer
+                && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    /**
+     * Sets the input source to a specific {@link InputStream}.
+     * @param in The input stream to read from.
+     */
+    public void setInput(InputStream in) {
+        boolean byteMode = isByteMode();
+        if (prefetcher != null) {
+            prefetcher.stop();
+            prefetcher = null;
+        }
+        bytes = null;
+        source = in;
+        open(byteMode);
+    }
+
+    /**
+     * Creates the tokenizer for the current source. A prefetch thread reading the source is stopped, and the input
+     * it or the byte-level tokenizer read ahead but did not consume is read first by the new tokenizer.
+     */
+    private void open(boolean byteMode) {
+        InputStream rest = source;
+        if (prefetcher != null) {
+            rest = prefetcher.detach();
+            prefetcher = null;
+        }
+        source = bytes != null ? bytes.unread(rest) : rest;
+        if (byteMode) {
+            bytes = byteTokenizer(source);
+            br = null;
+        } else {
+            bytes = null;
+            br = new BufferedReader(new InputStreamReader(stream(source)));
+        }
+    }
+
+    private InputStream stream(InputStream in) {
+        if (!prefetch) return in;
+        prefetcher = new PrefetchInputStream(in);
+        return prefetcher;
+    }
+
+    /**
+     * Creates the byte-level tokenizer for a source. Regular files are memory-mapped from their current position,
+     * anything else (including pipes and empty files) is streamed.
+     */
+    private ByteTokenizer byteTokenizer(InputStream in) {
+        if (in instanceof FileInputStream) {
+            FileChannel channel = ((FileInputStream) in).getChannel();
+            try {
+                if (channel.size() > channel.position()) {
+                    return new MappedByteTokenizer(channel, delim);
+                }
+            } catch (IOException ignored) {
+                // not a regular file, fall back to streaming
+            }
+        }
+        return new ByteTokenizer(stream(in), delim);
+    }
+
+    /**
+     * Sets the input source to a file via its filename.
+     *
+     * In byte mode the file is memory-mapped with {@link FileChannel#map}, in windows of up to 1 GiB
+     * for files beyond the 2 GiB limit of a single mapping, and tokenized straight out of the page cache.
+     * @param fileName The name of the file to read from.
+     * @throws IllegalArgumentException if a file with {@code fileName} cannot be found.
+     */
+    public void setFileInput(String fileName) {
+        try {
+            setInput(new FileInputStream(fileName));
+        } catch (FileNotFoundException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Checks whether another token is available, skipping blank lines without consuming the token.
+     * @return True if another token can be read, false at the end of input.
+     */
+    public boolean hasNext() {
+        if (bytes != null) return bytes.hasNext();
+        while (curr == null || !curr.hasMoreTokens()) {
+            String line;
+            try {
+                line = br.readLine();
+            } catch (IOException e) {
+                throw new NoSuchElementException(e.getMessage());
+            }
+            if (line == null) return false;
+            curr = new StringTokenizer(line, delim);
+        }
+        return true;
+    }
+
+    /**
+     * Reads the next token from input.
+     * @return The next token as a String
+     * @throws NoSuchElementException if no more tokens are available or an error occurs.
+     */
+    public String next() {
+        if (bytes != null) return bytes.next();
+        if (!hasNext()) throw new NoSuchElementException("No more tokens");
+        String result = curr.nextToken();
+        if (!curr.hasMoreTokens()) {
+            curr = null;
+        }
+        return result;
+    }
+
+    /**
+     * Reads the next token and tries to parse it as an int.
+     * @return The parsed int.
+     */
+    public int nextInt() {
+        if (bytes != null) return bytes.nextInt();
+        return Integer.parseInt(next());
+    }
+
+    /**
+     * Reads the next token and tries to parse it as a long.
+     * @return The parsed long.
+     */
+    public long nextLong() {
+        if (bytes != null) return bytes.nextLong();
+        return Long.parseLong(next());
+    }
+
+    /**
+     * Reads the next token and tries to parse it as a double.
+     * @return The parsed double.
+     */
+    public double nextDouble() {
+        if (bytes != null) return bytes.nextDouble();
+        return Double.parseDouble(next());
+    }
+
+    /**
+     * Reads the next token and tries to parse it as a {@link BigInteger}.
+     * @return The parsed {@link BigInteger}.
+     */
+    public BigInteger nextBigInteger() {
+        return new BigInteger(next());
+    }
+
+    /**
+     * Reads the next token and tries to parse it as a boolean.
+     * @return The parsed boolean.
+     */
+    public boolean nextBoolean() {
+        return Boolean.parseBoolean(next());
+    }
+
+    /**
+     * Reads the next token and interprets it as a binary string where each 'truth' character (typically '1') is true.
+     * @param truth The character interpreted as true.
+     * @return An array of booleans representing the binary string.
+     */
+    public boolean[] nextBinaryString(char truth) {
+        String s = next();
+        int n = s.length();
+        boolean[] result = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = s.charAt(i) == truth;
+        }
+        return result;
+    }
+
+    /**
+     * Reads until the end of the current line and returns all remaining tokens as a single string.
+     * @return The complete line or remaining tokens fused into one line.
+     */
+    public String nextLine() {
+        if (bytes != null) return bytes.nextLine();
+        if (curr == null || !curr.hasMoreTokens()) {
+            try {
+                return br.readLine();
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        StringBuilder remaining = new StringBuilder();
+        remaining.append(curr.nextToken());
+        while (curr.hasMoreTokens()) {
+            remaining.append(' ').append(curr.nextToken());
+        }
+        curr = null;
+        return remaining.toString();
+    }
+
+    // Methods for reading arrays and lists of various types follow similar structure
+    // They read multiple elements based on a specified count, parse them, and store them in arrays or lists.
+
+    /**
+     * Reads and returns an array of strings from the input.
+     * @param n The number of strings to read.
+     * @return A string array containing the read strings.
+     */
+    public String[] nextStringArray(int n) {
+        String[] arr = new String[n];
+        for (int i = 0; i < n; i++) {
+            arr[i] = next();
+        }
+        return arr;
+    }
+
+    /**
+     * Reads and returns an array of integers from the input.
+     * @param n The number of integers to read.
+     * @return An integer array containing the read integers.
+     */
+    public int[] nextIntArray(int n) {
+        int[] arr = new int[n];
+        nextIntArray(arr, 0, n);
+        return arr;
+    }
+
+    /**
+     * Reads and returns an array of long integers from the input.
+     * @param n The number of long integers to read.
+     * @return A long integer array containing the read long integers.
+     */
+    public long[] nextLongArray(int n) {
+        long[] arr = new long[n];
+        nextLongArray(arr, 0, n);
+        return arr;
+    }
+
+    /**
+     * Reads and returns an array of double values from the input.
+     * @param n The number of double values to read.
+     * @return A double array containing the read values.
+     */
+    public double[] nextDoubleArray(int n) {
+        double[] arr = new double[n];
+        nextDoubleArray(arr, 0, n);
+        return arr;
+    }
+
+    /**
+     * Reads integers into an existing array, so buffers can be reused across test cases without allocating.
+     * @param arr The array to fill.
+     * @param off The index of the first element to fill.
+     * @param len The number of integers to read.
+     */
+    public void nextIntArray(int[] arr, int off, int len) {
+        if (parallel(len)) {
+            ParallelParser.nextIntArray((MappedByteTokenizer) bytes, arr, off, len);
+            return;
+        }
+        int end = off + len;
+        if (bytes != null) {
+            for (int i = off; i < end; i++) {
+                arr[i] = bytes.nextInt();
+            }
+            return;
+        }
+        for (int i = off; i < end; i++) {
+            arr[i] = nextInt();
+        }
+    }
+
+    /**
+     * Reads a grid of integers row by row into an existing 2D array, so buffers can be reused across test cases
+     * without allocating.
+     * @param grid The grid to fill, with at least {@code rows} rows of at least {@code cols} elements.
+     * @param rows The number of rows to read.
+     * @param cols The number of integers to read per row.
+     */
+    public void nextIntGrid(int[][] grid, int rows, int cols) {
+        for (int i = 0; i < rows; i++) {
+            nextIntArray(grid[i], 0, cols);
+        }
+    }
+
+    /**
+     * Reads long integers into an existing array, so buffers can be reused across test cases without allocating.
+     * @param arr The array to fill.
+     * @param off The index of the first element to fill.
+     * @param len The number of long integers to read.
+     */
+    public void nextLongArray(long[] arr, int off, int len) {
+        if (parallel(len)) {
+            ParallelParser.nextLongArray((MappedByteTokenizer) bytes, arr, off, len);
+            return;
+        }
+        int end = off + len;
+        if (bytes != null) {
+            for (int i = off; i < end; i++) {
+                arr[i] = bytes.nextLong();
+            }
+            return;
+        }
+        for (int i = off; i < end; i++) {
+            arr[i] = nextLong();
+        }
+    }
+
+    /**
+     * Reads a grid of long integers row by row into an existing 2D array, so buffers can be reused across test cases
+     * without allocating.
+     * @param grid The grid to fill, with at least {@code rows} rows of at least {@code cols} elements.
+     * @param rows The number of rows to read.
+     * @param cols The number of long integers to read per row.
+     */
+    public void nextLongGrid(long[][] grid, int rows, int cols) {
+        for (int i = 0; i < rows; i++) {
+            nextLongArray(grid[i], 0, cols);
+        }
+    }
+
+    /**
+     * Reads double values into an existing array, so buffers can be reused across test cases without allocating.
+     * @param arr The array to fill.
+     * @param off The index of the first element to fill.
+     * @param len The number of double values to read.
+     */
+    public void nextDoubleArray(double[] arr, int off, int len) {
+        if (parallel(len)) {
+            ParallelParser.nextDoubleArray((MappedByteTokenizer) bytes, arr, off, len);
+            return;
+        }
+        int end = off + len;
+        if (bytes != null) {
+            for (int i = off; i < end; i++) {
+                arr[i] = bytes.nextDouble();
+            }
+            return;
+        }
+        for (int i = off; i < end; i++) {
+            arr[i] = nextDouble();
+        }
+    }
+
+    /**
+     * Reads a grid of double values row by row into an existing 2D array, so buffers can be reused across test cases
+     * without allocating.
+     * @param grid The grid to fill, with at least {@code rows} rows of at least {@code cols} elements.
+     * @param rows The number of rows to read.
+     * @param cols The number of double values to read per row.
+     */
+    public void nextDoubleGrid(double[][] grid, int rows, int cols) {
+        for (int i = 0; i < rows; i++) {
+            nextDoubleArray(grid[i], 0, cols);
+        }
+    }
+
+    /**
+     * Reads and returns an array of BigInteger values.
+     * @param n The number of BigInteger values to read.
+     * @return An array of BigInteger values.
+     */
+    public BigInteger[] nextBigIntegerArray(int n) {
+        BigInteger[] arr = new BigInteger[n];
+        for (int i = 0; i < n; i++) {
+            arr[i] = nextBigInteger();
+        }
+        return arr;
+    }
+
+    /**
+     * Reads and returns an array of boolean values interpreted from the input.
+     * @param n The number of boolean values to read.
+     * @return A boolean array containing the read values.
+     */
+    public boolean[] nextBooleanArray(int n) {
+        boolean[] arr = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            arr[i] = nextBoolean();
+        }
+        return arr;
+    }
+
+    private static void checkCount(int n) {
+        if (n < 0) throw new IllegalArgumentException("Count cannot be negative");
+    }
+
+    /**
+     * Returns an iterator that lazily parses the next {@code n} integers, one token per call.
+     * @param n The number of integers to iterate over.
+     * @return A primitive iterator over the integers.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    public PrimitiveIterator.OfInt intIterator(int n) {
+        checkCount(n);
+        return iterateInts(n);
+    }
+
+    /**
+     * Returns an iterator over the next {@code n} integers, or until the end of input if {@code n} is negative.
+     */
+    private PrimitiveIterator.OfInt iterateInts(int n) {
+        return new PrimitiveIterator.OfInt() {
+            private int remaining = n;
+
+            @Override
+            public boolean hasNext() {
+                return remaining < 0 ? InputReader.this.hasNext() : remaining > 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) throw new NoSuchElementException();
+                if (remaining > 0) remaining--;
+                return InputReader.this.nextInt();
+            }
+        };
+    }
+
+    /**
+     * Returns an iterator that lazily parses integers until the end of input, one token per call.
+     * @return A primitive iterator over the remaining integers.
+     */
+    public PrimitiveIterator.OfInt intIterator() {
+        return iterateInts(-1);
+    }
+
+    /**
+     * Returns a sequential stream that lazily parses the next {@code n} integers as it is consumed,
+     * so huge inputs can be aggregated in a single pass with constant memory.
+     * Tokens not consumed by a short-circuiting operation are left in the input.
+     * @param n The number of integers in the stream.
+     * @return A {@link IntStream} over the integers.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    public IntStream ints(int n) {
+        checkCount(n);
+        Spliterator.OfInt spliterator = Spliterators.spliterator(iterateInts(n), n, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.intStream(spliterator, false);
+    }
+
+    /**
+     * Returns a sequential stream that lazily parses integers until the end of input as it is consumed,
+     * so huge inputs can be aggregated in a single pass with constant memory.
+     * @return A {@link IntStream} over the remaining integers.
+     */
+    public IntStream ints() {
+        Spliterator.OfInt spliterator = Spliterators.spliteratorUnknownSize(iterateInts(-1), Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.intStream(spliterator, false);
+    }
+
+    /**
+     * Returns an iterator that lazily parses the next {@code n} long integers, one token per call.
+     * @param n The number of long integers to iterate over.
+     * @return A primitive iterator over the long integers.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    public PrimitiveIterator.OfLong longIterator(int n) {
+        checkCount(n);
+        return iterateLongs(n);
+    }
+
+    /**
+     * Returns an iterator over the next {@code n} long integers, or until the end of input if {@code n} is negative.
+     */
+    private PrimitiveIterator.OfLong iterateLongs(int n) {
+        return new PrimitiveIterator.OfLong() {
+            private int remaining = n;
+
+            @Override
+            public boolean hasNext() {
+                return remaining < 0 ? InputReader.this.hasNext() : remaining > 0;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) throw new NoSuchElementException();
+                if (remaining > 0) remaining--;
+                return InputReader.this.nextLong();
+            }
+        };
+    }
+
+    /**
+     * Returns an iterator that lazily parses long integers until the end of input, one token per call.
+     * @return A primitive iterator over the remaining long integers.
+     */
+    public PrimitiveIterator.OfLong longIterator() {
+        return iterateLongs(-1);
+    }
+
+    /**
+     * Returns a sequential stream that lazily parses the next {@code n} long integers as it is consumed,
+     * so huge inputs can be aggregated in a single pass with constant memory.
+     * Tokens not consumed by a short-circuiting operation are left in the input.
+     * @param n The number of long integers in the stream.
+     * @return A {@link LongStream} over the long integers.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    public LongStream longs(int n) {
+        checkCount(n);
+        Spliterator.OfLong spliterator = Spliterators.spliterator(iterateLongs(n), n, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.longStream(spliterator, false);
+    }
+
+    /**
+     * Returns a sequential stream that lazily parses long integers until the end of input as it is consumed,
+     * so huge inputs can be aggregated in a single pass with constant memory.
+     * @return A {@link LongStream} over the remaining long integers.
+     */
+    public LongStream longs() {
+        Spliterator.OfLong spliterator = Spliterators.spliteratorUnknownSize(iterateLongs(-1), Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.longStream(spliterator, false);
+    }
+
+    /**
+     * Returns an iterator that lazily parses the next {@code n} double values, one token per call.
+     * @param n The number of double values to iterate over.
+     * @return A primitive iterator over the double values.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    public PrimitiveIterator.OfDouble doubleIterator(int n) {
+        checkCount(n);
+        return iterateDoubles(n);
+    }
+
+    /**
+     * Returns an iterator over the next {@code n} double values, or until the end of input if {@code n} is negative.
+     */
+    private PrimitiveIterator.OfDouble iterateDoubles(int n) {
+        return new PrimitiveIterator.OfDouble() {
+            private int remaining = n;
+
+            @Override
+            public boolean hasNext() {
+                return remaining < 0 ? InputReader.this.hasNext() : remaining > 0;
+            }
+
+            @Override
+            public double nextDouble() {
+                if (!hasNext()) throw new NoSuchElementException();
+                if (remaining > 0) remaining--;
+                return InputReader.this.nextDouble();
+            }
+        };
+    }
+
+    /**
+     * Returns an iterator that lazily parses double values until the end of input, one token per call.
+     * @return A primitive iterator over the remaining double values.
+     */
+    public PrimitiveIterator.OfDouble doubleIterator() {
+        return iterateDoubles(-1);
+    }
+
+    /**
+     * Returns a sequential stream that lazily parses the next {@code n} double values as it is consumed,
+     * so huge inputs can be aggregated in a single pass with constant memory.
+     * Tokens not consumed by a short-circuiting operation are left in the input.
+     * @param n The number of double values in the stream.
+     * @return A {@link DoubleStream} over the double values.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    public DoubleStream doubles(int n) {
+        checkCount(n);
+        Spliterator.OfDouble spliterator = Spliterators.spliterator(iterateDoubles(n), n, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.doubleStream(spliterator, false);
+    }
+
+    /**
+     * Returns a sequential stream that lazily parses double values until the end of input as it is consumed,
+     * so huge inputs can be aggregated in a single pass with constant memory.
+     * @return A {@link DoubleStream} over the remaining double values.
+     */
+    public DoubleStream doubles() {
+        Spliterator.OfDouble spliterator = Spliterators.spliteratorUnknownSize(iterateDoubles(-1), Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.doubleStream(spliterator, false);
+    }
+
+    /**
+     * Reads and returns a list of strings from the input.
+     * @param n The number of strings to read.
+     * @return A list containing the read strings.
+     */
+    public List<String> nextStringList(int n) {
+        List<String> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            list.add(next());
+        }
+        return list;
+    }
+
+    /**
+     * Reads and returns a list of integers from the input.
+     * @param n The number of integers to read.
+     * @return A list containing the read integers.
+     */
+    public List<Integer> nextIntList(int n) {
+        List<Integer> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            list.add(nextInt());
+        }
+        return list;
+    }
+
+    /**
+     * Reads and returns a list of long integers from the input.
+     * @param n The number of long integers to read.
+     * @return A list containing the read long integers.
+     */
+    public List<Long> nextLongList(int n) {
+        List<Long> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            list.add(nextLong());
+        }
+        return list;
+    }
+
+    /**
+     * Reads and returns a list of double values from the input.
+     * @param n The number of double values to read.
+     * @return A list containing the read double values.
+     */
+    public List<Double> nextDoubleList(int n) {
+        List<Double> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            list.add(nextDouble());
+        }
+        return list;
+    }
+
+    /**
+     * Reads and returns a list of BigInteger values from the input.
+     * @param n The number of BigInteger values to read.
+     * @return A list containing the read BigInteger values.
+     */
+    public List<BigInteger> nextBigIntegerList(int n) {
+        List<BigInteger> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            list.add(nextBigInteger());
+        }
+        return list;
+    }
+
+    /**
+     * Reads and returns a list of boolean values interpreted from the input.
+     * @param n The number of boolean values to read.
+     * @return A list containing the read boolean values.
+     */
+    public List<Boolean> nextBooleanList(int n) {
+        List<Boolean> list = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            list.add(nextBoolean());
+        }
+        return list;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A {@link ByteTokenizer} that reads a file through {@link FileChannel#map}, so the OS page cache does the
+ * buffering instead of read calls and char decoding. Files larger than a single mapping are mapped
+ * in consecutive windows of {@link #WINDOW_SIZE} bytes.
+ *
+ * Each window is still copied into the inherited 64 KiB buffer in bulk, so numbers are parsed by the same
+ * array-indexed loop as every other source. The copy is a memcpy out of the page cache into a buffer that
+ * stays in cache, a few percent of the time spent parsing the same bytes, while reading the window
+ * byte by byte would put a bounds-checked buffer access on every step of every parse loop.
+ * {@link ParallelParser} workers parse straight from their own mappings instead.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+class MappedByteTokenizer extends ByteTokenizer {
+    static final long WINDOW_SIZE = 1L << 30;
+
+    /**
+     * The mapped file, shared with {@link ParallelParser} workers which map their own chunks of it.
+     */
+    final FileChannel channel;
+    final long size;
+    private long windowEnd;
+    private long bufStart;
+    private MappedByteBuffer window;
+
+    /**
+     * Maps the channel starting from its current position.
+     * @param channel The file channel to read from.
+     * @param delim The string containing delimiter characters.
+     * @throws IOException if the size or position of the channel cannot be read.
+     */
+    MappedByteTokenizer(FileChannel channel, String delim) throws IOException {
+        super(null, delim);
+        this.channel = channel;
+        this.size = channel.size();
+        this.windowEnd = channel.position();
+        this.bufStart = windowEnd;
+    }
+
+    /**
+     * Copies the next block of the current window into {@link #buf}, mapping the next window once it is used up.
+     */
+    @Override
+    boolean fill() throws IOException {
+        bufStart += len;
+        ptr = 0;
+        len = 0;
+        if (window == null || !window.hasRemaining()) {
+            if (windowEnd >= size) return false;
+            long length = Math.min(WINDOW_SIZE, size - windowEnd);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, windowEnd, length);
+            windowEnd += length;
+        }
+        len = Math.min(buf.length, window.remaining());
+        window.get(buf, 0, len);
+        return true;
+    }
+
+    /**
+     * Moves the file position to the next unread byte, so the file stream continues where parsing stopped.
+     */
+    @Override
+    InputStream unread(InputStream rest) {
+        try {
+            channel.position(position());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rest;
+    }
+
+    /**
+     * Gets the file offset of the next unread byte.
+     * @return The offset of the next byte to be parsed.
+     */
+    long position() {
+        return bufStart + ptr;
+    }
+
+    /**
+     * Moves parsing to a file offset, discarding the current window.
+     * @param offset The file offset of the next byte to parse.
+     * @throws IOException if the byte before {@code offset} cannot be read.
+     */
+    void seek(long offset) throws IOException {
+        window = null;
+        windowEnd = offset;
+        bufStart = offset;
+        ptr = 0;
+        len = 0;
+        lineStart = true;
+        if (offset > 0) {
+            ByteBuffer prev = ByteBuffer.allocate(1);
+            if (channel.read(prev, offset - 1) == 1) lineStart = prev.get(0) == '\n';
+        }
+    }
+}
@@ -16,10 +16,8 @@
 
 package Util;
 
-import java.io.FileNotFoundException;
 import java.io.OutputStream;
 import java.io.PrintWriter;
-import java.util.Arrays;
 
 /**
  * This class serves as a utility for output operations, allowing for redirection
@@ -31,21 +29,40 @@ import java.util.Arrays;
  * when there an `ONLINE_JUDGE` system property is present (Codeforces, AtCoder).
  *
  * This is meant to preserve runtime over standard input {@link System#out} by flushing only once.
+ * Output is encoded into a reusable byte buffer, and primitives are printed without boxing.
+ *
+ * All methods delegate to a default {@link OutputWriter}, which can be replaced with {@link #setOutputWriter(OutputWriter)}.
+ * Use separate {@link OutputWriter} instances to produce several outputs at once.
  *
  * @author Sahasrad Chippa
  * @version 1.0
  * @since 1.0
  */
 public class Out {
-    private static PrintWriter pw = new PrintWriter(System.out);
-    private static String delim = " ";
+    private static OutputWriter writer = new OutputWriter(System.out);
+
+    /**
+     * Retrieves the current output writer object.
+     * @return The current {@link OutputWriter} instance that output is written to.
+     */
+    public static OutputWriter getOutputWriter() {
+        return writer;
+    }
+
+    /**
+     * Sets the {@link OutputWriter} that all methods delegate to.
+     * @param writer The new output writer.
+     */
+    public static void setOutputWriter(OutputWriter writer) {
+        Out.writer = writer;
+    }
 
     /**
      * Retrieves the current writer object.
      * @return The current {@link PrintWriter} instance being used for output.
      */
     public static PrintWriter getWriter() {
-        return pw;
+        return writer.getWriter();
     }
 
     /**
@@ -53,7 +70,7 @@ public class Out {
      * @param writer The new printer writer.
      */
     public static void setWriter(PrintWriter writer) {
-        Out.pw = writer;
+        Out.writer.setWriter(writer);
     }
 
     /**
@@ -61,7 +78,7 @@ public class Out {
      * @param out The output stream to write to.
      */
     public static void setOutput(OutputStream out) {
-        pw = new PrintWriter(out);
+        writer.setOutput(out);
     }
 
     /**
@@ -70,11 +87,7 @@ public class Out {
      * @throws IllegalArgumentException if a file with {@code fileName} cannot be found or created.
      */
     public static void setOutputFile(String fileName) {
-        try {
-            pw = new PrintWriter(fileName);
-        } catch (FileNotFoundException e) {
-            throw new IllegalArgumentException(e);
-        }
+        writer.setOutputFile(fileName);
     }
 
     /**
@@ -82,7 +95,7 @@ public class Out {
      * @return The current delimiter string.
      */
     public static String getDelimiter() {
-        return delim;
+        return writer.getDelimiter();
     }
 
     /**
@@ -90,15 +103,62 @@ public class Out {
      * @param delim The new delimiter string to use.
      */
     public static void setDelimiter(String delim) {
-        Out.delim = delim;
+        writer.setDelimiter(delim);
     }
 
     /**
      * Outputs a new line character to the output stream.
      */
     public static void println() {
-        pw.println();
-        if (Constants.debug) pw.flush();
+        writer.println();
+    }
+
+    /**
+     * Prints an int to the output without boxing.
+     * @param x The int to print.
+     */
+    public static void print(int x) {
+        writer.print(x);
+    }
+
+    /**
+     * Prints a long to the output without boxing.
+     * @param x The long to print.
+     */
+    public static void print(long x) {
+        writer.print(x);
+    }
+
+    /**
+     * Prints a double to the output without boxing, formatted as by {@link Double#toString(double)}.
+     * @param x The double to print.
+     */
+    public static void print(double x) {
+        writer.print(x);
+    }
+
+    /**
+     * Prints a float to the output without boxing, formatted as by {@link Float#toString(float)}.
+     * @param x The float to print.
+     */
+    public static void print(float x) {
+        writer.print(x);
+    }
+
+    /**
+     * Prints a char to the output without boxing.
+     * @param x The char to print.
+     */
+    public static void print(char x) {
+        writer.print(x);
+    }
+
+    /**
+     * Prints a boolean to the output without boxing.
+     * @param x The boolean to print.
+     */
+    public static void print(boolean x) {
+        writer.print(x);
     }
 
     /**
@@ -109,35 +169,56 @@ public class Out {
      *
      * @param x The object to print.
      */
-    @SuppressWarnings("all")
     public static void print(Object x) {
-        if (x instanceof Object[] || x.getClass().isArray()) {
-            String result = "";
-
-            if (x instanceof int[]) {
-                result = Arrays.toString((int[]) x);
-            } else if (x instanceof long[]) {
-                result = Arrays.toString((long[]) x);
-            } else if (x instanceof double[]) {
-                result = Arrays.toString((double[]) x);
-            } else if (x instanceof float[]) {
-                result = Arrays.toString((float[]) x);
-            } else if (x instanceof boolean[]) {
-                result = Arrays.toString((boolean[]) x);
-            } else if (x instanceof short[]) {
-                result = Arrays.toString((short[]) x);
-            } else if (x instanceof char[]) {
-                result = Arrays.toString((char[]) x);
-            } else if (x instanceof byte[]) {
-                result = Arrays.toString((byte[]) x);
-            } else {
-                result = Arrays.toString((Object[]) x);
-            }
-            pw.print(result);
-        } else {
-            pw.print(x);
-        }
-        if (Constants.debug) pw.flush();
+        writer.print(x);
+    }
+
+    /**
+     * Prints an int to the output followed by a newline, without boxing.
+     * @param x The int to print.
+     */
+    public static void println(int x) {
+        writer.println(x);
+    }
+
+    /**
+     * Prints a long to the output followed by a newline, without boxing.
+     * @param x The long to print.
+     */
+    public static void println(long x) {
+        writer.println(x);
+    }
+
+    /**
+     * Prints a double to the output followed by a newline, without boxing.
+     * @param x The double to print.
+     */
+    public static void println(double x) {
+        writer.println(x);
+    }
+
+    /**
+     * Prints a float to the output followed by a newline, without boxing.
+     * @param x The float to print.
+     */
+    public static void println(float x) {
+        writer.println(x);
+    }
+
+    /**
+     * Prints a char to the output followed by a newline, without boxing.
+     * @param x The char to print.
+     */
+    public static void println(char x) {
+        writer.println(x);
+    }
+
+    /**
+     * Prints a boolean to the output followed by a newline, without boxing.
+     * @param x The boolean to print.
+     */
+    public static void println(boolean x) {
+        writer.println(x);
     }
 
     /**
@@ -149,8 +230,7 @@ public class Out {
      * @param x The object to print.
      */
     public static void println(Object x) {
-        print(x);
-        println();
+        writer.println(x);
     }
 
     /**
@@ -162,13 +242,7 @@ public class Out {
      * @param arr The iterable to print.
      */
     public static <T> void iterPrint(Iterable<T> arr) {
-        boolean space = false;
-        for (T t : arr) {
-            if (space) print(delim);
-            print(t);
-            space = true;
-        }
-        println();
+        writer.iterPrint(arr);
     }
 
     /**
@@ -180,13 +254,7 @@ public class Out {
      * @param arr The array to print.
      */
     public static <T> void iterPrint(T[] arr) {
-        boolean space = false;
-        for (T t : arr) {
-            if (space) print(delim);
-            print(t);
-            space = true;
-        }
-        println();
+        writer.iterPrint(arr);
     }
 
     /**
@@ -195,13 +263,7 @@ public class Out {
      * @param arr The array to print.
      */
     public static void iterPrint(int[] arr) {
-        boolean space = false;
-        for (int t : arr) {
-            if (space) print(delim);
-            print(t);
-            space = true;
-        }
-        println();
+        writer.iterPrint(arr);
     }
 
     /**
@@ -210,13 +272,7 @@ public class Out {
      * @param arr The array to print.
      */
     public static void iterPrint(long[] arr) {
-        boolean space = false;
-        for (long t : arr) {
-            if (space) print(delim);
-            print(t);
-            space = true;
-        }
-        println();
+        writer.iterPrint(arr);
     }
 
     /**
@@ -225,13 +281,7 @@ public class Out {
      * @param arr The array to print.
      */
     public static void iterPrint(double[] arr) {
-        boolean space = false;
-        for (double t : arr) {
-            if (space) print(delim);
-            print(t);
-            space = true;
-        }
-        println();
+        writer.iterPrint(arr);
     }
 
     /**
@@ -240,13 +290,7 @@ public class Out {
      * @param arr The array to print.
      */
     public static void iterPrint(char[] arr) {
-        boolean space = false;
-        for (char t : arr) {
-            if (space) print(delim);
-            print(t);
-            space = true;
-        }
-        println();
+        writer.iterPrint(arr);
     }
 
     /**
@@ -255,13 +299,7 @@ public class Out {
      * @param arr The array to print.
      */
     public static void iterPrint(boolean[] arr) {
-        boolean space = false;
-        for (boolean t : arr) {
-            if (space) print(delim);
-            print(t);
-            space = true;
-        }
-        println();
+        writer.iterPrint(arr);
     }
 
     /**
@@ -270,14 +308,13 @@ public class Out {
      * @param args The arguments to use in the format string.
      */
     public static void printf(String format, Object... args) {
-        pw.printf(format, args);
-        if (Constants.debug) pw.flush();
+        writer.printf(format, args);
     }
 
     /**
-     * Flushes the {@link PrintWriter}, ensuring all output is written out immediately.
+     * Flushes the buffered output to the underlying stream, ensuring all output is written out immediately.
      */
     public static void flush() {
-        pw.flush();
+        writer.flush();
     }
 }
\ No newline at end of file
@@ -0,0 +1,591 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Util;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.CoderResult;
+import java.util.Arrays;
+
+/**
+ * A writer that formats output to a single destination. Each instance keeps its own writer and delimiter,
+ * so separate instances can produce independent outputs concurrently, one thread per instance.
+ * Instances are not synchronized and should be confined to a single thread.
+ *
+ * Provides the same methods as {@link Out}, which delegates to a default instance writing to {@link System#out}.
+ *
+ * Output is encoded into a reusable byte buffer and written to the underlying {@link OutputStream} in large blocks.
+ * Ints and longs are formatted digit by digit straight into the buffer, and the primitive overloads of
+ * {@code print} and {@code println} never box their arguments.
+ *
+ * Output must be flushed with {@link #flush()} once writing is done,
+ * since it is only flushed automatically when {@link Constants#debug} is true.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+public class OutputWriter {
+    static final int BUFFER_SIZE = 1 << 16;
+    private static final byte[] NEWLINE = System.lineSeparator().getBytes();
+
+    private final byte[] buf = new byte[BUFFER_SIZE];
+    private int pos;
+    private OutputStream out;
+    private PrintWriter writer;
+    private boolean view;
+    private String delim = " ";
+    private byte[] delimBytes = delim.getBytes();
+
+    /**
+     * Constructs a writer over an {@link OutputStream}.
+     * @param out The output stream to write to.
+     */
+    public OutputWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Constructs a writer over an existing {@link PrintWriter}.
+     * @param writer The print writer to write to.
+     */
+    public OutputWriter(PrintWriter writer) {
+        setWriter(writer);
+    }
+
+    /**
+     * Retrieves the current writer object. Unless one was set with {@link #setWriter(PrintWriter)},
+     * this is a view that writes into this writer's buffer. Text written to it must be flushed
+     * with {@link PrintWriter#flush()} before this writer is used again to keep the output in order.
+     * @return The current {@link PrintWriter} instance being used for output.
+     */
+    public PrintWriter getWriter() {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStream() {
+                @Override
+                public void write(int b) {
+                    ensure(1);
+                    buf[pos++] = (byte) b;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    OutputWriter.this.write(b, off, len);
+                }
+            });
+            view = true;
+        }
+        return writer;
+    }
+
+    /**
+     * Sets the {@link PrintWriter} to a specified writer, allowing redirection of the output.
+     * Pending output is flushed to the previous destination first.
+     * @param writer The new printer writer.
+     */
+    public void setWriter(PrintWriter writer) {
+        if (out != null) flush();
+        this.out = new WriterStream(writer);
+        this.writer = writer;
+        this.view = false;
+    }
+
+    /**
+     * Sets the current output stream to a new {@link OutputStream}.
+     * Pending output is flushed to the previous destination first.
+     * @param out The output stream to write to.
+     */
+    public void setOutput(OutputStream out) {
+        flush();
+        this.out = out;
+        this.writer = null;
+        this.view = false;
+    }
+
+    /**
+     * Sets the output to a file with the specified filename.
+     * @param fileName The name of the file to write output to.
+     * @throws IllegalArgumentException if a file with {@code fileName} cannot be found or created.
+     */
+    public void setOutputFile(String fileName) {
+        try {
+            setOutput(new FileOutputStream(fileName));
+        } catch (FileNotFoundException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Gets the current delimiter used in output methods that handle iterables and arrays.
+     * @return The current delimiter string.
+     */
+    public String getDelimiter() {
+        return delim;
+    }
+
+    /**
+     * Sets a new delimiter for output methods to use when handling iterables and arrays.
+     * @param delim The new delimiter string to use.
+     */
+    public void setDelimiter(String delim) {
+        this.delim = delim;
+        this.delimBytes = delim.getBytes();
+    }
+
+    private void ensure(int n) {
+        if (pos + n > buf.length) flushBuffer();
+    }
+
+    private void flushBuffer() {
+        try {
+            out.write(buf, 0, pos);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        pos = 0;
+    }
+
+    private void write(byte[] b, int off, int len) {
+        if (len > buf.length) {
+            flushBuffer();
+            try {
+                out.write(b, off, len);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return;
+        }
+        ensure(len);
+        System.arraycopy(b, off, buf, pos, len);
+        pos += len;
+    }
+
+    private void write(byte[] b) {
+        write(b, 0, b.length);
+    }
+
+    private void write(String s) {
+        int len = s.length();
+        for (int i = 0; i < len; i++) {
+            char c = s.charAt(i);
+            if (c >= 0x80) {
+                write(s.substring(i).getBytes());
+                return;
+            }
+            if (pos == buf.length) flushBuffer();
+            buf[pos++] = (byte) c;
+        }
+    }
+
+    private void writeChar(char c) {
+        if (c < 0x80) {
+            ensure(1);
+            buf[pos++] = (byte) c;
+        } else {
+            write(String.valueOf(c));
+        }
+    }
+
+    private void writeInt(int x) {
+        ensure(11);
+        if (x < 0) {
+            buf[pos++] = '-';
+        } else {
+            x = -x;
+        }
+        int digits = 1;
+        for (int t = x; t <= -10; t /= 10) digits++;
+        int end = pos + digits;
+        for (int i = end - 1; i >= pos; i--) {
+            buf[i] = (byte) ('0' - x % 10);
+            x /= 10;
+        }
+        pos = end;
+    }
+
+    private void writeLong(long x) {
+        if (x == (int) x) {
+            writeInt((int) x);
+            return;
+        }
+        ensure(20);
+        if (x < 0) {
+            buf[pos++] = '-';
+        } else {
+            x = -x;
+        }
+        int digits = 1;
+        for (long t = x; t <= -10; t /= 10) digits++;
+        int end = pos + digits;
+        for (int i = end - 1; i >= pos; i--) {
+            buf[i] = (byte) ('0' - x % 10);
+            x /= 10;
+        }
+        pos = end;
+    }
+
+    /**
+     * Outputs a new line character to the output stream.
+     */
+    public void println() {
+        write(NEWLINE);
+        if (Constants.debug) flush();
+    }
+
+    /**
+     * Prints an int to the output without boxing.
+     * @param x The int to print.
+     */
+    public void print(int x) {
+        writeInt(x);
+        if (Constants.debug) flush();
+    }
+
+    /**
+     * Prints a long to the output without boxing.
+     * @param x The long to print.
+     */
+    public void print(long x) {
+        writeLong(x);
+        if (Constants.debug) flush();
+    }
+
+    /**
+     * Prints a double to the output without boxing, formatted as by {@link Double#toString(double)}.
+     * @param x The double to print.
+     */
+    public void print(double x) {
+        write(Double.toString(x));
+        if (Constants.debug) flush();
+    }
+
+    /**
+     * Prints a float to the output without boxing, formatted as by {@link Float#toString(float)}.
+     * @param x The float to print.
+     */
+    public void print(float x) {
+        write(Float.toString(x));
+        if (Constants.debug) flush();
+    }
+
+    /**
+     * Prints a char to the output without boxing.
+     * @param x The char to print.
+     */
+    public void print(char x) {
+        writeChar(x);
+        if (Constants.debug) flush();
+    }
+
+    /**
+     * Prints a boolean to the output without boxing.
+     * @param x The boolean to print.
+     */
+    public void print(boolean x) {
+        write(x ? "true" : "false");
+        if (Constants.debug) flush();
+    }
+
+    /**
+     * Prints an object to the output. Special handling for array types,
+     * prints arrays' contents directly.
+     *
+     * Output must be flushed with {@link #flush()} by the end of the program
+     *
+     * @param x The object to print.
+     */
+    @SuppressWarnings("all")
+    public void print(Object x) {
+        if (x instanceof Object[] || x.getClass().isArray()) {
+            String result = "";
+
+            if (x instanceof int[]) {
+                result = Arrays.toString((int[]) x);
+            } else if (x instanceof long[]) {
+                result = Arrays.toString((long[]) x);
+            } else if (x instanceof double[]) {
+                result = Arrays.toString((double[]) x);
+            } else if (x instanceof float[]) {
+                result = Arrays.toString((float[]) x);
+            } else if (x instanceof boolean[]) {
+                result = Arrays.toString((boolean[]) x);
+            } else if (x instanceof short[]) {
+                result = Arrays.toString((short[]) x);
+            } else if (x instanceof char[]) {
+                result = Arrays.toString((char[]) x);
+            } else if (x instanceof byte[]) {
+                result = Arrays.toString((byte[]) x);
+            } else {
+                result = Arrays.toString((Object[]) x);
+            }
+            write(result);
+        } else {
+            write(String.valueOf(x));
+        }
+        if (Constants.debug) flush();
+    }
+
+    /**
+     * Prints an int to the output followed by a newline, without boxing.
+     * @param x The int to print.
+     */
+    public void println(int x) {
+        writeInt(x);
+        println();
+    }
+
+    /**
+     * Prints a long to the output followed by a newline, without boxing.
+     * @param x The long to print.
+     */
+    public void println(long x) {
+        writeLong(x);
+        println();
+    }
+
+    /**
+     * Prints a double to the output followed by a newline, without boxing.
+     * @param x The double to print.
+     */
+    public void println(double x) {
+        write(Double.toString(x));
+        println();
+    }
+
+    /**
+     * Prints a float to the output followed by a newline, without boxing.
+     * @param x The float to print.
+     */
+    public void println(float x) {
+        write(Float.toString(x));
+        println();
+    }
+
+    /**
+     * Prints a char to the output followed by a newline, without boxing.
+     * @param x The char to print.
+     */
+    public void println(char x) {
+        writeChar(x);
+        println();
+    }
+
+    /**
+     * Prints a boolean to the output followed by a newline, without boxing.
+     * @param x The boolean to print.
+     */
+    public void println(boolean x) {
+        write(x ? "true" : "false");
+        println();
+    }
+
+    /**
+     * Prints an object to the output followed by a newline. It handles arrays
+     * by printing their String representation.
+     *
+     * Output must be flushed with {@link #flush()} by the end of the program
+     *
+     * @param x The object to print.
+     */
+    public void println(Object x) {
+        print(x);
+        println();
+    }
+
+    /**
+     * Prints each element of the given iterable to the output, separated by the current delimiter.
+     *
+     * Output must be flushed with {@link #flush()} by the end of the program
+     *
+     * @param <T> The type of elements in the iterable.
+     * @param arr The iterable to print.
+     */
+    public <T> void iterPrint(Iterable<T> arr) {
+        boolean space = false;
+        for (T t : arr) {
+            if (space) write(delimBytes);
+            print(t);
+            space = true;
+        }
+        println();
+    }
+
+    /**
+     * Prints each element of an array to the output, separated by the current delimiter (a space by default).
+     *
+     * Output must be flushed with {@link #flush()} by the end of the program
+     *
+     * @param <T> The type of elements in the array.
+     * @param arr The array to print.
+     */
+    public <T> void iterPrint(T[] arr) {
+        boolean space = false;
+        for (T t : arr) {
+            if (space) write(delimBytes);
+            print(t);
+            space = true;
+        }
+        println();
+    }
+
+    /**
+     * Iterative printing for integer arrays, printing each element separated by the current delimiter (a space by default).
+     *
+     * @param arr The array to print.
+     */
+    public void iterPrint(int[] arr) {
+        boolean space = false;
+        for (int t : arr) {
+            if (space) write(delimBytes);
+            writeInt(t);
+            space = true;
+        }
+        println();
+    }
+
+    /**
+     * Iterative printing for long arrays, printing each element separated by the current delimiter (a space by default).
+     *
+     * @param arr The array to print.
+     */
+    public void iterPrint(long[] arr) {
+        boolean space = false;
+        for (long t : arr) {
+            if (space) write(delimBytes);
+            writeLong(t);
+            space = true;
+        }
+        println();
+    }
+
+    /**
+     * Iterative printing for double arrays, printing each element separated by the current delimiter (a space by default).
+     *
+     * @param arr The array to print.
+     */
+    public void iterPrint(double[] arr) {
+        boolean space = false;
+        for (double t : arr) {
+            if (space) write(delimBytes);
+            write(Double.toString(t));
+            space = true;
+        }
+        println();
+    }
+
+    /**
+     * Iterative printing for char arrays, printing each element separated by the current delimiter (a space by default).
+     *
+     * @param arr The array to print.
+     */
+    public void iterPrint(char[] arr) {
+        boolean space = false;
+        for (char t : arr) {
+            if (space) write(delimBytes);
+            writeChar(t);
+            space = true;
+        }
+        println();
+    }
+
+    /**
+     * Iterative printing for boolean arrays, printing each element separated by the current delimiter (a space by default).
+     *
+     * @param arr The array to print.
+     */
+    public void iterPrint(boolean[] arr) {
+        boolean space = false;
+        for (boolean t : arr) {
+            if (space) write(delimBytes);
+            write(t ? "true" : "false");
+            space = true;
+        }
+        println();
+    }
+
+    /**
+     * Provides formatted printing using {@link String#format} like syntax.
+     * @param format The string format to use.
+     * @param args The arguments to use in the format string.
+     */
+    public void printf(String format, Object... args) {
+        write(String.format(format, args));
+        if (Constants.debug) flush();
+    }
+
+    /**
+     * Flushes the buffered output to the underlying stream, ensuring all output is written out immediately.
+     */
+    public void flush() {
+        if (view) writer.flush();
+        flushBuffer();
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Adapts a {@link Writer} to the byte buffer, decoding with the default charset,
+     * which is the charset the buffer is encoded with.
+     */
+    private static final class WriterStream extends OutputStream {
+        private final Writer writer;
+        private final CharsetDecoder decoder = Charset.defaultCharset().newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+        private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+
+        WriterStream(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                int n = Math.min(len, bytes.remaining());
+                bytes.put(b, off, n);
+                off += n;
+                len -= n;
+                bytes.flip();
+                CoderResult result;
+                do {
+                    result = decoder.decode(bytes, chars, false);
+                    writer.write(chars.array(), 0, chars.position());
+                    chars.clear();
+                } while (result.isOverflow());
+                bytes.compact();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+    }
+}
\ No newline at end of file
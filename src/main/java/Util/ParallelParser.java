@@ -0,0 +1,227 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parses large blocks of numbers from a memory-mapped file on the common {@link ForkJoinPool}.
+ * Backs the parallel mode of {@link InputReader}.
+ *
+ * The unread part of the file is processed in rounds. Each round is split into chunks of at most {@link #MAX_CHUNK}
+ * bytes, and a token belongs to the chunk it starts in, so chunk boundaries never split a token.
+ * Each chunk is mapped and its tokens are counted in parallel, which gives every chunk its offset in the destination
+ * array, and then the chunks are parsed in parallel straight from their mappings into the destination.
+ * Nothing is copied to the heap besides one token at a time, so parallel parsing needs no more memory than sequential.
+ * Rounds are sized from the bytes per token seen so far, so little is counted beyond the requested count,
+ * and tokens beyond it are never parsed.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+class ParallelParser {
+    /**
+     * The smallest number of values worth parsing in parallel.
+     */
+    static final int THRESHOLD = 1 << 16;
+
+    private static final int MIN_CHUNK = 1 << 16;
+    private static final long MAX_CHUNK = 1 << 26;
+    private static final int SLACK = 1 << 12;
+    private static final int INT = 0, LONG = 1, DOUBLE = 2;
+
+    static void nextIntArray(MappedByteTokenizer in, int[] arr, int off, int len) {
+        parse(in, arr, off, len, INT);
+    }
+
+    static void nextLongArray(MappedByteTokenizer in, long[] arr, int off, int len) {
+        parse(in, arr, off, len, LONG);
+    }
+
+    static void nextDoubleArray(MappedByteTokenizer in, double[] arr, int off, int len) {
+        parse(in, arr, off, len, DOUBLE);
+    }
+
+    /**
+     * Parses the next {@code len} tokens into {@code dest} starting at {@code off}, then moves the tokenizer
+     * to just past the last parsed token.
+     */
+    private static void parse(MappedByteTokenizer in, Object dest, int off, int len, int type) {
+        try {
+            int workers = 4 * ForkJoinPool.getCommonPoolParallelism();
+            double bytesPerToken = 8;
+            long start = in.position();
+            int filled = 0;
+            while (filled < len) {
+                long remaining = in.size - start;
+                if (remaining <= 0) throw new NoSuchElementException("No more tokens");
+                long round = Math.min(remaining, Math.max((long) workers * MIN_CHUNK, (long) ((len - filled) * bytesPerToken * 1.1)));
+                long chunkSize = Math.min(MAX_CHUNK, Math.max(MIN_CHUNK, round / workers));
+                List<Chunk> chunks = new ArrayList<>();
+                for (long from = start; from < start + round; from += chunkSize) {
+                    chunks.add(new Chunk(in, from, Math.min(start + round, from + chunkSize), from == start));
+                }
+                ForkJoinTask.invokeAll(chunks);
+
+                long end = start + round;
+                int tokens = 0;
+                List<Parse> parses = new ArrayList<>();
+                for (Chunk chunk : chunks) {
+                    tokens += chunk.count;
+                    end = Math.max(end, chunk.end);
+                    int take = Math.min(chunk.count, len - filled);
+                    if (take > 0) parses.add(new Parse(chunk, dest, type, off + filled, take));
+                    filled += take;
+                    if (filled == len) break;
+                }
+                ForkJoinTask.invokeAll(parses);
+                if (filled == len) {
+                    in.seek(parses.get(parses.size() - 1).stop);
+                    return;
+                }
+                if (tokens > 0) bytesPerToken = (double) (end - start) / tokens;
+                start = end;
+            }
+            in.seek(start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Maps the bytes of a chunk and counts the tokens that start within {@code [from, to)},
+     * reading past {@code to} to find the end of the last one.
+     */
+    private static final class Chunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final MappedByteTokenizer in;
+        private final long from;
+        private final long to;
+        private final boolean boundary;
+
+        MappedByteBuffer map;
+        long lo;
+        int count;
+        long first;
+        long end;
+
+        Chunk(MappedByteTokenizer in, long from, long to, boolean boundary) {
+            this.in = in;
+            this.from = from;
+            this.to = to;
+            this.boundary = boundary;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                long slack = SLACK;
+                while (!count(slack)) slack <<= 2;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Counts the tokens of the chunk.
+         * @return false if the last token runs past the mapped slack and the chunk must be mapped again.
+         */
+        private boolean count(long slack) throws IOException {
+            lo = boundary ? from : from - 1;
+            long hi = Math.min(in.size, to + slack);
+            if (hi - lo > Integer.MAX_VALUE) throw new NumberFormatException("Token too long");
+            map = in.channel.map(FileChannel.MapMode.READ_ONLY, lo, hi - lo);
+            boolean[] delims = in.delims;
+            int i = (int) (from - lo), limit = (int) (to - lo), n = (int) (hi - lo);
+            if (!boundary && !delims[map.get(0) & 0xff]) {
+                // the previous chunk owns the token crossing the boundary
+                while (i < n && !delims[map.get(i) & 0xff]) i++;
+            }
+            first = lo + i;
+            count = 0;
+            while (true) {
+                while (i < limit && delims[map.get(i) & 0xff]) i++;
+                if (i >= limit) break;
+                while (i < n && !delims[map.get(i) & 0xff]) i++;
+                if (i == n && hi < in.size) return false;
+                count++;
+            }
+            end = count == 0 ? first : lo + i;
+            return true;
+        }
+    }
+
+    /**
+     * Parses the first {@code take} tokens of a counted chunk straight from its mapping into the destination.
+     */
+    private static final class Parse extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Chunk chunk;
+        private final Object dest;
+        private final int type;
+        private final int off;
+        private final int take;
+
+        long stop;
+
+        Parse(Chunk chunk, Object dest, int type, int off, int take) {
+            this.chunk = chunk;
+            this.dest = dest;
+            this.type = type;
+            this.off = off;
+            this.take = take;
+        }
+
+        @Override
+        protected void compute() {
+            MappedByteBuffer map = chunk.map;
+            boolean[] delims = chunk.in.delims;
+            int n = map.limit();
+            int i = (int) (chunk.first - chunk.lo);
+            byte[] token = new byte[64];
+            for (int j = 0; j < take; j++) {
+                while (delims[map.get(i) & 0xff]) i++;
+                int k = 0;
+                while (i < n && !delims[map.get(i) & 0xff]) {
+                    if (k == token.length) token = Arrays.copyOf(token, k << 1);
+                    token[k++] = map.get(i++);
+                }
+                if (type == INT) {
+                    ((int[]) dest)[off + j] = (int) ByteTokenizer.parseSigned(token, 0, k, Integer.MIN_VALUE);
+                } else if (type == LONG) {
+                    ((long[]) dest)[off + j] = ByteTokenizer.parseSigned(token, 0, k, Long.MIN_VALUE);
+                } else {
+                    ((double[]) dest)[off + j] = ByteTokenizer.parseDouble(token, 0, k);
+                }
+            }
+            stop = chunk.lo + i;
+        }
+    }
+}
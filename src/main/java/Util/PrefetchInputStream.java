@@ -0,0 +1,215 @@
+/*
+ * Copyright 2024 Sahasrad Chippa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package Util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Arrays;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * An {@link InputStream} that reads ahead of its consumer on a dedicated daemon thread.
+ * Two blocks are cycled between the threads, so the next block is read from the underlying stream
+ * while the current one is parsed. Backs the prefetch mode of {@link InputReader}.
+ *
+ * The thread is started by the first read, so a stream that is created and then replaced before any reads
+ * has taken nothing from the underlying stream. {@link #detach()} hands back the blocks read ahead but not yet
+ * consumed, so switching modes never loses input.
+ *
+ * @author Sahasrad Chippa
+ * @version 1.0
+ * @since 1.1
+ */
+class PrefetchInputStream extends InputStream {
+    static final int BLOCK_SIZE = 1 << 16;
+
+    /**
+     * Queued at the front of {@link #free} to make the thread exit before its next read.
+     */
+    private static final Block STOP = new Block();
+
+    private final InputStream in;
+    private final BlockingDeque<Block> free = new LinkedBlockingDeque<>();
+    private final BlockingQueue<Block> filled = new LinkedBlockingQueue<>();
+    private Thread thread;
+    private Block current;
+    private boolean eof;
+
+    /**
+     * Creates a stream that starts reading ahead from {@code in} on its first read.
+     * @param in The stream to read from.
+     */
+    PrefetchInputStream(InputStream in) {
+        this.in = in;
+        free.add(new Block());
+        free.add(new Block());
+    }
+
+    private void start() {
+        thread = new Thread(() -> {
+            try {
+                while (true) {
+                    Block block = free.take();
+                    if (block == STOP) return;
+                    try {
+                        do {
+                            block.len = in.read(block.data, 0, BLOCK_SIZE);
+                        } while (block.len == 0);
+                    } catch (IOException e) {
+                        block.error = e;
+                        block.len = -1;
+                    }
+                    block.pos = 0;
+                    filled.add(block);
+                    if (block.len < 0) return;
+                }
+            } catch (InterruptedException ignored) {
+                // interrupted while waiting for a free block, so nothing was read since the last one
+            }
+        }, "InputReader-prefetch");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Takes the next block filled by the prefetch thread, returning the current one to be refilled.
+     * @return false at the end of input.
+     */
+    private boolean advance() throws IOException {
+        if (eof) return false;
+        if (thread == null) start();
+        if (current != null) free.add(current);
+        try {
+            current = filled.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+        if (current.len < 0) {
+            eof = true;
+            IOException error = current.error;
+            current = null;
+            if (error != null) throw error;
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if ((current == null || current.pos == current.len) && !advance()) return -1;
+        return current.data[current.pos++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) return 0;
+        if ((current == null || current.pos == current.len) && !advance()) return -1;
+        int n = Math.min(len, current.len - current.pos);
+        System.arraycopy(current.data, current.pos, b, off, n);
+        current.pos += n;
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return current == null ? 0 : current.len - current.pos;
+    }
+
+    /**
+     * Stops the prefetch thread without closing the underlying stream, discarding anything read ahead.
+     * A thread blocked inside a read of the underlying stream exits once that read returns.
+     */
+    void stop() {
+        if (thread != null) free.addFirst(STOP);
+    }
+
+    /**
+     * Stops the prefetch thread and returns a stream that continues exactly where this one stopped:
+     * first the bytes read ahead but not yet consumed, then the rest of the underlying stream.
+     * Waits for a read of the underlying stream that is in progress, since its bytes come next.
+     * If a read ahead failed, the returned stream throws that {@link IOException} once the unread bytes are consumed.
+     * @return The stream to continue reading from, the underlying stream itself if nothing was read ahead.
+     */
+    InputStream detach() {
+        if (thread == null) return in;
+        free.addFirst(STOP);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (eof) return new ByteArrayInputStream(new byte[0]);
+        byte[] rest = new byte[0];
+        int n = 0;
+        boolean end = false;
+        IOException error = null;
+        Block block = current;
+        while (true) {
+            if (block != null) {
+                if (block.len < 0) {
+                    end = true;
+                    error = block.error;
+                    break;
+                }
+                int k = block.len - block.pos;
+                if (n + k > rest.length) rest = Arrays.copyOf(rest, Math.max(rest.length << 1, n + k));
+                System.arraycopy(block.data, block.pos, rest, n, k);
+                n += k;
+            }
+            block = filled.poll();
+            if (block == null) break;
+        }
+        InputStream unread = new ByteArrayInputStream(rest, 0, n);
+        if (error != null) return new SequenceInputStream(unread, new Failed(error));
+        return end ? unread : new SequenceInputStream(unread, in);
+    }
+
+    /**
+     * An empty stream that rethrows the error of a failed read ahead, so it surfaces after the bytes before it.
+     */
+    private static final class Failed extends InputStream {
+        private final IOException error;
+
+        Failed(IOException error) {
+            this.error = error;
+        }
+
+        @Override
+        public int read() throws IOException {
+            throw error;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            throw error;
+        }
+    }
+
+    private static final class Block {
+        final byte[] data = new byte[BLOCK_SIZE];
+        int len;
+        int pos;
+        IOException error;
+    }
+}
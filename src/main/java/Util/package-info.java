@@ -18,6 +18,10 @@
  *       with support for parsing primitive types and strings, as well as custom tokenization.</li>
  *   <li>{@link Util.Out} - Handles output operations efficiently with capabilities for stream redirection,
  *       custom delimiters, and deferred flushing to maintain runtime performance.</li>
+ *   <li>{@link Util.InputReader} - An instantiable reader behind {@link Util.In}, used to read several
+ *       independent inputs at once, each confined to its own thread.</li>
+ *   <li>{@link Util.OutputWriter} - An instantiable writer behind {@link Util.Out}, used to write several
+ *       independent outputs at once, each confined to its own thread.</li>
  * </ul>
  *
  * <p>This package is structured to provide productivity boosts in competitive programming